@@ -1,11 +1,16 @@
 package net.luxcube.minecraft;
 
 import net.luxcube.minecraft.factory.PteroFactory;
+import net.luxcube.minecraft.metrics.PteroMetrics;
 import net.luxcube.minecraft.repository.server.ServerRepository;
 import net.luxcube.minecraft.repository.user.UserRepository;
+import net.luxcube.minecraft.sync.InventoryListener;
 import org.jetbrains.annotations.NotNull;
 
 import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * Represents the main focus of the Pterodactyl's API.
@@ -64,4 +69,68 @@ public interface PteroManager {
      */
     @NotNull URL getURL();
 
+    /**
+     * Retrieve the readiness of the manager.
+     * The manager is created without blocking on the panel, so this future completes
+     * once the account of the client key has been resolved, or exceptionally if the panel
+     * couldn't be reached.
+     *
+     * @return A future of the completable manager.
+     */
+    @NotNull CompletableFuture<PteroManager> whenReady();
+
+    /**
+     * Register a listener of the changes found by the inventory sync.
+     * The sync runs periodically when {@link net.luxcube.minecraft.options.PteroOptions#getInventorySyncInterval()} is set,
+     * otherwise only when {@link #syncInventory()} is called.
+     *
+     * @param listener The listener to be registered.
+     */
+    void registerInventoryListener(@NotNull InventoryListener listener);
+
+    /**
+     * Unregister a listener of the inventory sync.
+     *
+     * @param listener The listener to be unregistered.
+     */
+    void unregisterInventoryListener(@NotNull InventoryListener listener);
+
+    /**
+     * Compare the panel against the local inventory, reporting the changes to the listeners.
+     * If a sync is already running, the returned future is the one of the running sync.
+     *
+     * @return A future completed once the sync finishes.
+     */
+    @NotNull CompletableFuture<Void> syncInventory();
+
+    /**
+     * Runs the operations started by the supplier under the given deadline, instead of
+     * {@link net.luxcube.minecraft.options.PteroOptions#getOperationTimeout() the default one}.
+     * Every request they make shares what's left of it. Once it expires, the operations stop waiting and their
+     * requests still queued are dropped, but a request already sent keeps running until the panel answers it
+     * or {@link net.luxcube.minecraft.options.PteroOptions#getRequestTimeout() the request timeout} cuts it.
+     * <pre>{@code
+     * manager.withTimeout(Duration.ofSeconds(2), () -> manager.getServerRepository().findServerByName("lobby"));
+     * }</pre>
+     *
+     * @param timeout    The time the operations have to complete.
+     * @param operations The supplier starting the operations, called right away.
+     * @return The future of the operations, completed with an
+     * {@link net.luxcube.minecraft.exception.OperationTimeoutException} once the deadline expires.
+     */
+    <T> @NotNull CompletableFuture<T> withTimeout(@NotNull Duration timeout, @NotNull Supplier<CompletableFuture<T>> operations);
+
+    /**
+     * Retrieve the latency, errors and HTTP requests recorded for each operation of the bridge.
+     *
+     * @return The metrics of the bridge.
+     */
+    @NotNull PteroMetrics getMetrics();
+
+    /**
+     * Releases everything the bridge holds: the metrics exporters, the websockets and its threads.
+     * The manager can't be used anymore once it's shut down.
+     */
+    void shutdown();
+
 }
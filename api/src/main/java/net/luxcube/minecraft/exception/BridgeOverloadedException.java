@@ -0,0 +1,45 @@
+package net.luxcube.minecraft.exception;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown when the bridge refuses a new panel call because its work queue is full.
+ * It usually means the panel is slow or unavailable, so the call is failed fast
+ * instead of building a backlog.
+ * It's mostly used when the future is completed exceptionally.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class BridgeOverloadedException extends RejectedExecutionException {
+
+    public BridgeOverloadedException(int queueDepth) {
+        super("The bridge queue is full (" + queueDepth + " pending calls).");
+    }
+
+    /**
+     * Creates the exception without capturing the stack trace, the bridge rejects
+     * calls in bursts while overloaded and the trace only points at the worker.
+     *
+     * @param queueDepth The maximum of pending calls.
+     * @return The exception without stack trace.
+     */
+    public static BridgeOverloadedException stackless(int queueDepth) {
+        return new Stackless(queueDepth);
+    }
+
+    private static final class Stackless extends BridgeOverloadedException {
+
+        private Stackless(int queueDepth) {
+            super(queueDepth);
+        }
+
+        // RejectedExecutionException has no way to disable the trace, so it's never filled instead
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+    }
+
+}
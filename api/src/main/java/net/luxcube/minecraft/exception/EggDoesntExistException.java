@@ -13,4 +13,18 @@ public class EggDoesntExistException extends RuntimeException {
         super(message);
     }
 
+    protected EggDoesntExistException(String message, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
+
+    /**
+     * Creates the exception without capturing the stack trace.
+     *
+     * @param message The name of the egg.
+     * @return The exception without stack trace.
+     */
+    public static EggDoesntExistException stackless(String message) {
+        return new EggDoesntExistException(message, false);
+    }
+
 }
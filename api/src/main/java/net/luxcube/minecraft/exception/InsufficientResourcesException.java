@@ -13,4 +13,18 @@ public class InsufficientResourcesException extends RuntimeException {
     public InsufficientResourcesException() {
         super("The server does not have enough resources to start.");
     }
+
+    protected InsufficientResourcesException(boolean writableStackTrace) {
+        super("The server does not have enough resources to start.", null, true, writableStackTrace);
+    }
+
+    /**
+     * Creates the exception without capturing the stack trace.
+     *
+     * @return The exception without stack trace.
+     */
+    public static InsufficientResourcesException stackless() {
+        return new InsufficientResourcesException(false);
+    }
+
 }
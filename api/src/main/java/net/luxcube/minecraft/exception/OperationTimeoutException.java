@@ -0,0 +1,33 @@
+package net.luxcube.minecraft.exception;
+
+/**
+ * Thrown when an operation, or one of its requests to the panel, doesn't complete before its deadline.
+ * Only the wait is bounded, a request already sent keeps running until the panel answers it or the request timeout
+ * cuts it, so the operation may have been partially applied, or may still be applied after this is thrown.
+ * It's mostly used when the future is completed exceptionally.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class OperationTimeoutException extends RuntimeException {
+
+    public OperationTimeoutException(String message) {
+        super(message);
+    }
+
+    protected OperationTimeoutException(String message, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
+
+    /**
+     * Creates the exception without capturing the stack trace, a dead panel
+     * fails every pending operation at once.
+     *
+     * @param message The reason of the timeout.
+     * @return The exception without stack trace.
+     */
+    public static OperationTimeoutException stackless(String message) {
+        return new OperationTimeoutException(message, false);
+    }
+
+}
@@ -17,4 +17,19 @@ public class ServerAlreadyExistsException extends RuntimeException {
         super(message);
     }
 
+    protected ServerAlreadyExistsException(String message, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
+
+    /**
+     * Creates the exception without capturing the stack trace, as a name clash
+     * is an answer of the panel rather than a failure of the caller.
+     *
+     * @param message The name of the server.
+     * @return The exception without stack trace.
+     */
+    public static ServerAlreadyExistsException stackless(String message) {
+        return new ServerAlreadyExistsException(message, false);
+    }
+
 }
@@ -17,4 +17,19 @@ public class ServerDoesntExistException extends RuntimeException {
         super(message);
     }
 
+    protected ServerDoesntExistException(String message, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
+
+    /**
+     * Creates the exception without capturing the stack trace, so a lookup miss
+     * costs the allocation only.
+     *
+     * @param message The name or identifier of the server.
+     * @return The exception without stack trace.
+     */
+    public static ServerDoesntExistException stackless(String message) {
+        return new ServerDoesntExistException(message, false);
+    }
+
 }
@@ -12,4 +12,18 @@ public class UserAlreadyExistsException extends RuntimeException {
     public UserAlreadyExistsException() {
         super("The user already exists.");
     }
+
+    protected UserAlreadyExistsException(boolean writableStackTrace) {
+        super("The user already exists.", null, true, writableStackTrace);
+    }
+
+    /**
+     * Creates the exception without capturing the stack trace.
+     *
+     * @return The exception without stack trace.
+     */
+    public static UserAlreadyExistsException stackless() {
+        return new UserAlreadyExistsException(false);
+    }
+
 }
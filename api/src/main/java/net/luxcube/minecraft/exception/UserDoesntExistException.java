@@ -17,4 +17,19 @@ public class UserDoesntExistException extends RuntimeException {
         super(message);
     }
 
+    protected UserDoesntExistException(String message, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+    }
+
+    /**
+     * Creates the exception without capturing the stack trace, for lookups where
+     * a missing user is expected rather than a bug.
+     *
+     * @param message The name or identifier of the user.
+     * @return The exception without stack trace.
+     */
+    public static UserDoesntExistException stackless(String message) {
+        return new UserDoesntExistException(message, false);
+    }
+
 }
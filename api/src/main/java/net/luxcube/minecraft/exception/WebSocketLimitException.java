@@ -0,0 +1,30 @@
+package net.luxcube.minecraft.exception;
+
+/**
+ * Thrown when a websocket must be opened but every allowed socket is in use.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class WebSocketLimitException extends RuntimeException {
+
+    public WebSocketLimitException(int limit) {
+        super("The limit of " + limit + " websockets was reached.");
+    }
+
+    protected WebSocketLimitException(int limit, boolean writableStackTrace) {
+        super("The limit of " + limit + " websockets was reached.", null, true, writableStackTrace);
+    }
+
+    /**
+     * Creates the exception without capturing the stack trace, it's thrown on every
+     * subscription while the limit is reached.
+     *
+     * @param limit The maximum of websockets.
+     * @return The exception without stack trace.
+     */
+    public static WebSocketLimitException stackless(int limit) {
+        return new WebSocketLimitException(limit, false);
+    }
+
+}
@@ -0,0 +1,99 @@
+package net.luxcube.minecraft.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Represents what was recorded of a single operation of the bridge, such as {@code ServerRepository.findServerByName}.
+ * The latency is measured from the call until its future completes, while the queue wait and
+ * the execution are measured for each task the operation runs on the bridge worker.
+ * Percentiles are approximated, with an error below 7%.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public interface OperationMetrics {
+
+    @NotNull String getName();
+
+    /**
+     * Retrieve the amount of calls completed, successfully or not.
+     *
+     * @return The amount of calls.
+     */
+    long getCalls();
+
+    /**
+     * Retrieve the amount of calls completed exceptionally.
+     *
+     * @return The amount of failed calls.
+     */
+    long getErrors();
+
+    /**
+     * Retrieve the amount of HTTP requests sent to the panel on behalf of the operation.
+     * A Pterodactyl4J action fetching every page of a list is counted once.
+     *
+     * @return The amount of HTTP requests.
+     */
+    long getHttpCalls();
+
+    /**
+     * Retrieve the calls completed per second since the metrics were created or reset.
+     *
+     * @return The throughput of the operation.
+     */
+    double getThroughput();
+
+    /**
+     * Retrieve the latency below which the given fraction of the calls completed.
+     *
+     * @param percentile The fraction, between 0 and 1.
+     * @return The latency at the percentile.
+     */
+    @NotNull Duration getLatency(double percentile);
+
+    @NotNull Duration getMeanLatency();
+
+    @NotNull Duration getMaxLatency();
+
+    /**
+     * Retrieve the time the tasks of the operation waited in the worker's queue, at the percentile.
+     *
+     * @param percentile The fraction, between 0 and 1.
+     * @return The queue wait at the percentile.
+     */
+    @NotNull Duration getQueueWait(double percentile);
+
+    /**
+     * Retrieve the time the tasks of the operation ran in the worker, at the percentile.
+     *
+     * @param percentile The fraction, between 0 and 1.
+     * @return The execution time at the percentile.
+     */
+    @NotNull Duration getExecution(double percentile);
+
+    default @NotNull Duration getP50() {
+        return getLatency(0.5);
+    }
+
+    default @NotNull Duration getP99() {
+        return getLatency(0.99);
+    }
+
+    default @NotNull Duration getP999() {
+        return getLatency(0.999);
+    }
+
+    /**
+     * Retrieve the average of HTTP requests sent per call, useful to find the operations worth caching.
+     *
+     * @return The HTTP requests per call.
+     */
+    default double getHttpCallsPerCall() {
+        long calls = getCalls();
+        return calls == 0 ? 0 : (double) getHttpCalls() / calls;
+    }
+
+}
@@ -0,0 +1,37 @@
+package net.luxcube.minecraft.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Represents the metrics recorded by the bridge for each of its operations.
+ * Recording can be turned off through {@link net.luxcube.minecraft.options.PteroOptions#isMetrics()}.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public interface PteroMetrics {
+
+    /**
+     * Retrieve the metrics of every operation called at least once.
+     *
+     * @return The metrics keyed by the operation's name.
+     */
+    @NotNull Map<String, OperationMetrics> getOperations();
+
+    /**
+     * Retrieve the metrics of an operation.
+     *
+     * @param name The name of the operation, such as {@code PteroServer.start}.
+     * @return The metrics or {@code null} if the operation was never called.
+     */
+    @Nullable OperationMetrics getOperation(@NotNull String name);
+
+    /**
+     * Discards everything recorded so far, such as before measuring an improvement.
+     */
+    void reset();
+
+}
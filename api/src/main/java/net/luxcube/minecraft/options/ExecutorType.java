@@ -0,0 +1,23 @@
+package net.luxcube.minecraft.options;
+
+/**
+ * The kind of executor used to run the blocking panel calls.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public enum ExecutorType {
+
+    /**
+     * A fixed pool of platform threads, each panel call holds one of them
+     * until the request is done.
+     */
+    FIXED,
+
+    /**
+     * One virtual thread per panel call, limited by the maximum of in-flight calls.
+     * It requires Java 21 or newer at runtime, otherwise it falls back to {@link #FIXED}.
+     */
+    VIRTUAL;
+
+}
@@ -0,0 +1,231 @@
+package net.luxcube.minecraft.options;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Represents the tuning options of the Pterodactyl's bridge.
+ * All options have sensible defaults, so you only need to set the ones you care about:
+ * <pre>{@code
+ * PteroOptions options = PteroOptions.builder()
+ *     .executorType(ExecutorType.VIRTUAL)
+ *     .maxInFlight(256)
+ *     .build();
+ * }</pre>
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+@Getter
+@Builder(toBuilder = true)
+public class PteroOptions {
+
+    /**
+     * The kind of executor used to run the panel calls.
+     */
+    @NotNull
+    @Builder.Default
+    private final ExecutorType executorType = ExecutorType.FIXED;
+
+    /**
+     * The number of platform threads used by {@link ExecutorType#FIXED}.
+     */
+    @Builder.Default
+    private final int threads = 4;
+
+    /**
+     * The maximum of panel calls running at the same time when using {@link ExecutorType#VIRTUAL}.
+     */
+    @Builder.Default
+    private final int maxInFlight = 64;
+
+    /**
+     * The maximum of panel calls waiting for the worker, new calls are rejected
+     * with {@link net.luxcube.minecraft.exception.BridgeOverloadedException} above it.
+     */
+    @Builder.Default
+    private final int queueDepth = 1024;
+
+    /**
+     * The requests per minute allowed for the application key, it should match
+     * the panel's {@code APP_API_APPLICATION_RATELIMIT}. Zero or less disables the limiter.
+     */
+    @Builder.Default
+    private final int applicationRateLimit = 240;
+
+    /**
+     * The requests per minute allowed for the client key, it should match
+     * the panel's {@code APP_API_CLIENT_RATELIMIT}. Zero or less disables the limiter.
+     */
+    @Builder.Default
+    private final int clientRateLimit = 720;
+
+    /**
+     * The deadline of an operation when the caller doesn't give one, shared by every request
+     * it makes to the panel. Zero disables it, leaving each request bounded by {@link #getRequestTimeout()} only.
+     */
+    @NotNull
+    @Builder.Default
+    private final Duration operationTimeout = Duration.ofSeconds(30);
+
+    /**
+     * The maximum time of a single request to the panel, shortened to what's left of the deadline
+     * of its operation. Zero lets a request be waited for as long as its operation allows,
+     * but a request already sent is then never cut, even after its operation gave up on it.
+     */
+    @NotNull
+    @Builder.Default
+    private final Duration requestTimeout = Duration.ofSeconds(10);
+
+    /**
+     * The maximum of requests sent at once before the limiter starts smoothing them.
+     */
+    @Builder.Default
+    private final int rateLimitBurst = 10;
+
+    /**
+     * How long a resolved server is kept in memory before asking the panel again.
+     */
+    @NotNull
+    @Builder.Default
+    private final Duration serverCacheTtl = Duration.ofMinutes(5);
+
+    /**
+     * The maximum of resolved servers kept in memory, zero disables the cache.
+     */
+    @Builder.Default
+    private final int serverCacheSize = 1024;
+
+    /**
+     * How often the known nodes and their allocations are loaded again,
+     * zero disables the periodic revalidation.
+     */
+    @NotNull
+    @Builder.Default
+    private final Duration nodeCacheRefresh = Duration.ofMinutes(10);
+
+    /**
+     * How often the owner index is rebuilt from a full scan once it's been used,
+     * zero disables the index and the servers of a user are always asked to the panel.
+     */
+    @NotNull
+    @Builder.Default
+    private final Duration ownerIndexRefresh = Duration.ofMinutes(5);
+
+    /**
+     * How often the UUID index of the users is rebuilt once it's been used, which is also how long an account
+     * created outside the binder may take to be found by its UUID.
+     * Zero disables the index and UUID lookups scan the users every time.
+     */
+    @NotNull
+    @Builder.Default
+    private final Duration userIndexRefresh = Duration.ofMinutes(5);
+
+    /**
+     * The maximum of pages fetched at once while scanning the whole panel.
+     */
+    @Builder.Default
+    private final int scanParallelism = 4;
+
+    /**
+     * The maximum of requests in flight for a single batch call, such as
+     * {@link net.luxcube.minecraft.repository.server.ServerRepository#retrieveStatuses(java.util.Collection)}.
+     */
+    @Builder.Default
+    private final int batchParallelism = 16;
+
+    /**
+     * How often the inventory is compared against the panel to report its changes,
+     * zero disables the periodic sync.
+     */
+    @NotNull
+    @Builder.Default
+    private final Duration inventorySyncInterval = Duration.ZERO;
+
+    /**
+     * The maximum of websockets opened at the same time, one per watched server.
+     */
+    @Builder.Default
+    private final int maxWebSockets = 128;
+
+    /**
+     * How long a websocket without listeners is kept open before being closed.
+     */
+    @NotNull
+    @Builder.Default
+    private final Duration webSocketIdleTimeout = Duration.ofMinutes(1);
+
+    /**
+     * The file the nodes, servers and users known by the binder are persisted to,
+     * so a restart serves them right away while the panel is scanned again.
+     * {@code null} disables the persistence.
+     */
+    @Nullable
+    private final Path inventoryFile;
+
+    /**
+     * How often the inventory is written to the {@link #getInventoryFile() inventory file}.
+     */
+    @NotNull
+    @Builder.Default
+    private final Duration inventoryFlushInterval = Duration.ofMinutes(5);
+
+    /**
+     * If the latency, errors and HTTP requests of each operation are recorded.
+     */
+    @Builder.Default
+    private final boolean metrics = true;
+
+    /**
+     * If the operations and the HTTP requests are emitted as JFR events while a recording
+     * asks for them, which needs the {@link #isMetrics() metrics} to be enabled.
+     */
+    @Builder.Default
+    private final boolean jfr = true;
+
+    /**
+     * If the worker, the caches and the operations are registered as JMX MBeans,
+     * under the {@code net.luxcube.minecraft} domain.
+     */
+    @Builder.Default
+    private final boolean jmx = false;
+
+    /**
+     * The port serving the metrics in the Prometheus text format on {@code /metrics},
+     * zero disables the endpoint.
+     */
+    @Builder.Default
+    private final int prometheusPort = 0;
+
+    /**
+     * The address the Prometheus endpoint is bound to, only reachable locally by default.
+     */
+    @NotNull
+    @Builder.Default
+    private final String prometheusHost = "127.0.0.1";
+
+    /**
+     * The log records buffered for a background thread to write, so logging never blocks
+     * the worker. Records are dropped while the buffer is full, zero logs from the calling thread.
+     */
+    @Builder.Default
+    private final int logBufferSize = 0;
+
+    /**
+     * Creates the default options using a fixed pool with the given number of threads.
+     *
+     * @param threads The number of threads to be used.
+     * @return The default options.
+     */
+    public static PteroOptions ofThreads(int threads) {
+        return PteroOptions.builder()
+            .threads(threads)
+            .build();
+    }
+
+}
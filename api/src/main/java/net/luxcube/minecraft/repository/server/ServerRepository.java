@@ -1,12 +1,20 @@
 package net.luxcube.minecraft.repository.server;
 
 import net.luxcube.minecraft.exception.ServerDoesntExistException;
+import net.luxcube.minecraft.result.Result;
 import net.luxcube.minecraft.server.PteroServer;
+import net.luxcube.minecraft.server.snapshot.ServerSnapshot;
+import net.luxcube.minecraft.server.status.StatusType;
+import net.luxcube.minecraft.server.usage.ServerUsage;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 /**
  * Main repository to lookup for servers based on UUID, name or identifier.
@@ -17,6 +25,9 @@ import java.util.concurrent.CompletableFuture;
  * <p>
  * You need to catch these exceptions because they are thrown when the future is completed exceptionally.
  * Otherwise, you can just use the {@link CompletableFuture#join()} method to get nullable values.
+ * <p>
+ * The lookups also have an {@code IfPresent} variant completing with an empty {@link Optional} instead,
+ * which is cheaper when misses are frequent.
  *
  * @author Luiz O. F. Corrêa
  * @since 02/11/2022
@@ -39,6 +50,23 @@ public interface ServerRepository {
      */
     CompletableFuture<PteroServer> findServerBySnowflake(@NotNull String snowflake);
 
+    /**
+     * Looks up for a server based on the name, without failing when it does not exist.
+     * Prefer it over {@link #findServerByName(String)} when a miss is a normal outcome.
+     *
+     * @param name The name of the server.
+     * @return A future of the server, or an empty optional if it does not exist.
+     */
+    CompletableFuture<Optional<PteroServer>> findServerByNameIfPresent(@NotNull String name);
+
+    /**
+     * Looks up for a server based on the identifier, without failing when it does not exist.
+     *
+     * @param snowflake The identifier of the server.
+     * @return A future of the server, or an empty optional if it does not exist.
+     */
+    CompletableFuture<Optional<PteroServer>> findServerBySnowflakeIfPresent(@NotNull String snowflake);
+
     /**
      * Deletes the server from the pterodactyl.
      *
@@ -54,4 +82,40 @@ public interface ServerRepository {
      */
     CompletableFuture<List<PteroServer>> retrieveServersByPage(int page, int size);
 
+    /**
+     * Streams every server of the pterodactyl, page by page, following the subscriber's demand.
+     * The next page is fetched while the current one is consumed, and no more than two pages are kept in memory.
+     *
+     * @return A publisher of all servers.
+     */
+    @NotNull
+    Flow.Publisher<PteroServer> streamServers();
+
+    /**
+     * Retrieves the status of many servers at once, with a bounded amount of requests in flight.
+     * The future never fails because of a single server, its error is kept in its own entry instead.
+     *
+     * @param servers The servers, duplicated identifiers are only requested once.
+     * @return A future of the statuses keyed by the server identifier.
+     */
+    CompletableFuture<Map<String, Result<StatusType>>> retrieveStatuses(@NotNull Collection<? extends PteroServer> servers);
+
+    /**
+     * Retrieves the usage of many servers at once, with a bounded amount of requests in flight.
+     * The future never fails because of a single server, its error is kept in its own entry instead.
+     *
+     * @param servers The servers, duplicated identifiers are only requested once.
+     * @return A future of the usages keyed by the server identifier.
+     */
+    CompletableFuture<Map<String, Result<ServerUsage>>> retrieveUsages(@NotNull Collection<? extends PteroServer> servers);
+
+    /**
+     * Retrieves the snapshot of many servers at once, with a bounded amount of requests in flight.
+     * The future never fails because of a single server, its error is kept in its own entry instead.
+     *
+     * @param servers The servers, duplicated identifiers are only requested once.
+     * @return A future of the snapshots keyed by the server identifier.
+     */
+    CompletableFuture<Map<String, Result<ServerSnapshot>>> retrieveSnapshots(@NotNull Collection<? extends PteroServer> servers);
+
 }
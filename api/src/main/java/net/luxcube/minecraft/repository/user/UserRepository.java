@@ -4,8 +4,10 @@ import net.luxcube.minecraft.exception.UserDoesntExistException;
 import net.luxcube.minecraft.user.PteroUser;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 /**
  * Main repository to lookup for users based on UUID, name, email or identifier.
@@ -16,6 +18,9 @@ import java.util.concurrent.CompletableFuture;
  * <p>
  * You need to catch these exceptions because they are thrown when the future is completed exceptionally.
  * Otherwise, you can just use the {@link CompletableFuture#join()} method to get nullable values.
+ * <p>
+ * The lookups also have an {@code IfPresent} variant completing with an empty {@link Optional} instead,
+ * which is cheaper when misses are frequent.
  *
  * @author Luiz O. F. Corrêa
  * @since 02/11/2022
@@ -56,6 +61,40 @@ public interface UserRepository {
      */
     CompletableFuture<PteroUser> findUserBySnowflake(@NotNull String snowflake);
 
+    /**
+     * Looks up for a user based on the username, without failing when it does not exist.
+     *
+     * @param username The username of the user.
+     * @return A future of the user, or an empty optional if it does not exist.
+     */
+    CompletableFuture<Optional<PteroUser>> findUserByUsernameIfPresent(@NotNull String username);
+
+    /**
+     * Looks up for a user based on the UUID, without failing when it does not exist.
+     * A user known by the UUID index is confirmed with a single request, and a miss is answered by the index
+     * without asking the panel, so an account created outside the binder is only found once the index is rebuilt.
+     *
+     * @param uuid The UUID of the user.
+     * @return A future of the user, or an empty optional if it does not exist.
+     */
+    CompletableFuture<Optional<PteroUser>> findUserByUUIDIfPresent(@NotNull UUID uuid);
+
+    /**
+     * Looks up for a user based on the email, without failing when it does not exist.
+     *
+     * @param email The email of the user.
+     * @return A future of the user, or an empty optional if it does not exist.
+     */
+    CompletableFuture<Optional<PteroUser>> findUserByEmailIfPresent(@NotNull String email);
+
+    /**
+     * Looks up for a user based on the identifier, without failing when it does not exist.
+     *
+     * @param snowflake The identifier of the user.
+     * @return A future of the user, or an empty optional if it does not exist.
+     */
+    CompletableFuture<Optional<PteroUser>> findUserBySnowflakeIfPresent(@NotNull String snowflake);
+
     /**
      * Deletes the user from the pterodactyl.
      *
@@ -64,4 +103,13 @@ public interface UserRepository {
      */
     CompletableFuture<PteroUser> deleteUser(@NotNull PteroUser user);
 
+    /**
+     * Streams every user of the pterodactyl, page by page, following the subscriber's demand.
+     * The next page is fetched while the current one is consumed, and no more than two pages are kept in memory.
+     *
+     * @return A publisher of all users.
+     */
+    @NotNull
+    Flow.Publisher<PteroUser> streamUsers();
+
 }
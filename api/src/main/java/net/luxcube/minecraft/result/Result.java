@@ -0,0 +1,68 @@
+package net.luxcube.minecraft.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Represents the outcome of a single entry of a batch, which is either a value or the error that prevented it.
+ * It lets a batch complete with partial results instead of failing entirely.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public final class Result<T> {
+
+    private final T value;
+    private final Throwable error;
+
+    private Result(@Nullable T value, @Nullable Throwable error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    public static <T> Result<T> success(@NotNull T value) {
+        return new Result<>(value, null);
+    }
+
+    public static <T> Result<T> failure(@NotNull Throwable error) {
+        return new Result<>(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Retrieve the value of the entry.
+     *
+     * @return The value or {@code null} if the entry failed.
+     */
+    public @Nullable T getValue() {
+        return value;
+    }
+
+    /**
+     * Retrieve the error of the entry.
+     *
+     * @return The error or {@code null} if the entry succeeded.
+     */
+    public @Nullable Throwable getError() {
+        return error;
+    }
+
+    public @NotNull Optional<T> toOptional() {
+        return Optional.ofNullable(value);
+    }
+
+    public T orElse(T other) {
+        return isSuccess() ? value : other;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "Result{value=" + value + "}" : "Result{error=" + error + "}";
+    }
+
+}
@@ -1,7 +1,9 @@
 package net.luxcube.minecraft.server;
 
 import net.luxcube.minecraft.manager.ServerManager;
+import net.luxcube.minecraft.server.snapshot.ServerSnapshot;
 import net.luxcube.minecraft.server.status.StatusType;
+import net.luxcube.minecraft.server.subscription.ServerSubscription;
 import net.luxcube.minecraft.server.usage.ServerUsage;
 import net.luxcube.minecraft.user.PteroUser;
 import org.jetbrains.annotations.NotNull;
@@ -9,6 +11,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Represents a pterodactyl's server with less information than the Pterodactyl's API.
@@ -91,6 +94,27 @@ public interface PteroServer {
      */
     CompletableFuture<ServerUsage> getUsage();
 
+    /**
+     * Retrieve the status and the usage of the server with a single request.
+     * Prefer it over calling {@link #getStatus()} and {@link #getUsage()} together.
+     *
+     * @return A future of the completable snapshot.
+     */
+    @NotNull
+    CompletableFuture<ServerSnapshot> getSnapshot();
+
+    /**
+     * Subscribe to the resources pushed by the server's websocket, instead of polling {@link #getSnapshot()}.
+     * All subscriptions of a server share the same websocket, which is closed with the last of them.
+     * The listener is called from the websocket thread, so it should return quickly.
+     *
+     * @param listener The listener of the pushed snapshots.
+     * @return The subscription, used to unsubscribe.
+     * @throws net.luxcube.minecraft.exception.WebSocketLimitException If no more websockets can be opened.
+     */
+    @NotNull
+    ServerSubscription subscribe(@NotNull Consumer<ServerSnapshot> listener);
+
     /**
      * Change the name of the server.
      *
@@ -0,0 +1,37 @@
+package net.luxcube.minecraft.server.snapshot;
+
+import net.luxcube.minecraft.server.status.StatusType;
+import net.luxcube.minecraft.server.usage.ServerUsage;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the state and the resources of the server read at the same moment.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public interface ServerSnapshot extends ServerUsage {
+
+    @NotNull
+    StatusType getStatus();
+
+    boolean isSuspended();
+
+    long getMemoryBytes();
+
+    long getDiskBytes();
+
+    double getCPUAbsolute();
+
+    long getNetworkIngress();
+
+    long getNetworkEgress();
+
+    /**
+     * Retrieve how long the server has been running.
+     *
+     * @return The uptime in milliseconds.
+     */
+    long getUptime();
+
+}
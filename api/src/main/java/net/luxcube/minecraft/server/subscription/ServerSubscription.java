@@ -0,0 +1,40 @@
+package net.luxcube.minecraft.server.subscription;
+
+import net.luxcube.minecraft.server.PteroServer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a live subscription to the resources pushed by the server's websocket.
+ * Closing it stops the deliveries to its listener.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public interface ServerSubscription extends AutoCloseable {
+
+    /**
+     * Retrieve the server of the subscription.
+     *
+     * @return The server of the subscription.
+     */
+    @NotNull
+    PteroServer getServer();
+
+    /**
+     * Check if the listener is still receiving updates.
+     *
+     * @return If the subscription wasn't unsubscribed.
+     */
+    boolean isActive();
+
+    /**
+     * Stop delivering updates to the listener.
+     */
+    void unsubscribe();
+
+    @Override
+    default void close() {
+        unsubscribe();
+    }
+
+}
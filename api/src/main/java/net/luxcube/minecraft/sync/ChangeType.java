@@ -0,0 +1,13 @@
+package net.luxcube.minecraft.sync;
+
+/**
+ * Kind of change found between two inventory syncs.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED;
+}
@@ -0,0 +1,45 @@
+package net.luxcube.minecraft.sync;
+
+import net.luxcube.minecraft.server.PteroServer;
+import net.luxcube.minecraft.user.PteroUser;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives the changes found by the inventory sync.
+ * On the first sync, every existing entry is reported as {@link ChangeType#CREATED}.
+ * All methods are called from the bridge's worker, never concurrently.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public interface InventoryListener {
+
+    /**
+     * Called when a server was created, updated or deleted on the panel.
+     *
+     * @param type   The kind of change.
+     * @param server The server, or its last known state when it was deleted.
+     */
+    default void onServerChange(@NotNull ChangeType type, @NotNull PteroServer server) {
+    }
+
+    /**
+     * Called when a user was created, updated or deleted on the panel.
+     *
+     * @param type The kind of change.
+     * @param user The user, or its last known state when it was deleted.
+     */
+    default void onUserChange(@NotNull ChangeType type, @NotNull PteroUser user) {
+    }
+
+    /**
+     * Called when a node was created, updated or deleted on the panel.
+     *
+     * @param type   The kind of change.
+     * @param nodeId The internal id of the node.
+     * @param name   The name of the node.
+     */
+    default void onNodeChange(@NotNull ChangeType type, @NotNull String nodeId, @NotNull String name) {
+    }
+
+}
@@ -0,0 +1,64 @@
+package net.luxcube.minecraft.benchmark;
+
+import net.luxcube.minecraft.executor.AdmissionExecutorService;
+import net.luxcube.minecraft.executor.BridgeExecutors;
+import net.luxcube.minecraft.options.ExecutorType;
+import net.luxcube.minecraft.options.PteroOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the round trip of handing a task to the bridge worker and waiting for it,
+ * which every panel call pays on top of the request itself.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ExecutorBenchmark {
+
+    @Param({"FIXED", "VIRTUAL"})
+    public ExecutorType executorType;
+
+    private AdmissionExecutorService worker;
+
+    @Setup
+    public void setup() {
+        worker = BridgeExecutors.createWorker(PteroOptions.builder()
+            .executorType(executorType)
+            .queueDepth(4096)
+            .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        worker.shutdownNow();
+    }
+
+    @Benchmark
+    public Integer dispatch() {
+        return CompletableFuture.supplyAsync(() -> 1, worker)
+            .join();
+    }
+
+}
@@ -0,0 +1,44 @@
+package net.luxcube.minecraft.benchmark;
+
+import net.luxcube.minecraft.logger.PteroLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the entry logging every repository method does, with debug disabled as in production.
+ * Run it with {@code -prof gc} to see the garbage it leaves behind.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=info")
+public class LoggerBenchmark {
+
+    private final String identifier = "1a2b3c4d";
+    private final int page = 3;
+
+    @Benchmark
+    public void debugWithoutArguments() {
+        PteroLogger.debug("Streaming all servers");
+    }
+
+    @Benchmark
+    public void debugWithArguments() {
+        PteroLogger.debug("Retrieving servers by page: {} of server {}", page, identifier);
+    }
+
+}
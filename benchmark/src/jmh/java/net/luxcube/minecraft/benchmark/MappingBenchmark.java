@@ -0,0 +1,91 @@
+package net.luxcube.minecraft.benchmark;
+
+import com.mattmalec.pterodactyl4j.application.entities.ApplicationServer;
+import net.luxcube.minecraft.options.PteroOptions;
+import net.luxcube.minecraft.server.PteroServer;
+import net.luxcube.minecraft.util.Servers;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mapping a page of application servers into {@link PteroServer}s, as the repositories
+ * do for every listing, with the node cache already warm.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    private static final int NODES = 8, PAGE_SIZE = 100;
+
+    private PteroBridgeVO bridge;
+    private List<ApplicationServer> page;
+
+    @Setup
+    public void setup() throws Exception {
+        bridge = PteroBridgeVO.createInstance(
+            new URL("http://127.0.0.1:1/"),
+            "ptlc_benchmark",
+            "ptla_benchmark",
+            PteroOptions.builder()
+                .nodeCacheRefresh(Duration.ZERO)
+                .ownerIndexRefresh(Duration.ZERO)
+                .userIndexRefresh(Duration.ZERO)
+                .build()
+        );
+
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int node = 0; node < NODES; node++) {
+            Map<String, String> addresses = new HashMap<>();
+            for (int index = node; index < PAGE_SIZE; index += NODES) {
+                addresses.put(String.valueOf(index), "10.0.0." + node + ":" + (25565 + index));
+            }
+
+            bridge.getNodeCache().seed(String.valueOf(node), "node-" + node, addresses);
+        }
+
+        for (int index = 0; index < PAGE_SIZE; index++) {
+            page.add(Stubs.server(index, String.valueOf(index % NODES), String.valueOf(index)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        bridge.shutdown();
+    }
+
+    @Benchmark
+    public List<PteroServer> mapPage() {
+        List<PteroServer> mapped = new ArrayList<>(page.size());
+        for (ApplicationServer applicationServer : page) {
+            mapped.add(Servers.toPteroServer(bridge, applicationServer));
+        }
+
+        return mapped;
+    }
+
+}
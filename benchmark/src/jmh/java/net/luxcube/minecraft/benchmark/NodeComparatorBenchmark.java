@@ -0,0 +1,65 @@
+package net.luxcube.minecraft.benchmark;
+
+import com.mattmalec.pterodactyl4j.application.entities.Node;
+import net.luxcube.minecraft.comparator.NodeComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures picking the target node of a new server, as done by {@code PteroFactory.createServer}.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NodeComparatorBenchmark {
+
+    private static final NodeComparator COMPARATOR = new NodeComparator();
+
+    @Param({"4", "32", "256"})
+    public int nodes;
+
+    private List<Node> candidates;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        candidates = new ArrayList<>(nodes);
+        for (int index = 0; index < nodes; index++) {
+            candidates.add(Stubs.node(
+                String.valueOf(index),
+                random.nextInt(10) == 0,
+                32768,
+                random.nextLong(32768)
+            ));
+        }
+    }
+
+    @Benchmark
+    public Node selectNode() {
+        return candidates.stream()
+            .min(COMPARATOR)
+            .orElseThrow();
+    }
+
+}
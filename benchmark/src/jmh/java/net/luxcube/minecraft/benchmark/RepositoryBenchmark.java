@@ -0,0 +1,109 @@
+package net.luxcube.minecraft.benchmark;
+
+import net.luxcube.minecraft.PteroManagerImpl;
+import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.options.PteroOptions;
+import net.luxcube.minecraft.result.Result;
+import net.luxcube.minecraft.server.PteroServer;
+import net.luxcube.minecraft.server.PteroServerImpl;
+import net.luxcube.minecraft.server.snapshot.ServerSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures repository calls end to end against a {@link StubPanel}, so the numbers include
+ * the worker, the rate limiter, the coalescing of lookups and the HTTP client, but not the network.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private static final int SERVERS = 32;
+
+    private StubPanel panel;
+    private PteroManagerImpl manager;
+
+    private List<PteroServer> servers;
+
+    @Setup
+    public void setup() throws Exception {
+        panel = new StubPanel();
+        manager = new PteroManagerImpl(
+            "ptla_benchmark",
+            "ptlc_benchmark",
+            panel.getURL(),
+            PteroOptions.builder()
+                .applicationRateLimit(0)
+                .clientRateLimit(0)
+                .ownerIndexRefresh(Duration.ZERO)
+                .userIndexRefresh(Duration.ZERO)
+                .nodeCacheRefresh(Duration.ZERO)
+                .build()
+        );
+
+        servers = new ArrayList<>(SERVERS);
+        for (int index = 0; index < SERVERS; index++) {
+            servers.add(new PteroServerImpl(
+                manager.getBridge(),
+                String.format("%08x", index),
+                String.valueOf(index),
+                "127.0.0.1:" + (25565 + index),
+                "node-0",
+                "server-" + index,
+                new UUID(index, index)
+            ));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        // What the bridge recorded, kept out of the JMH output
+        manager.getMetrics()
+            .getOperations()
+            .values()
+            .forEach(operation -> PteroLogger.debug("{}", operation));
+
+        manager.shutdown();
+        panel.close();
+    }
+
+    @Benchmark
+    public ServerSnapshot snapshot() {
+        return servers.get(0)
+            .getSnapshot()
+            .join();
+    }
+
+    @Benchmark
+    public Map<String, Result<ServerSnapshot>> batchSnapshots() {
+        return manager.getServerRepository()
+            .retrieveSnapshots(servers)
+            .join();
+    }
+
+}
@@ -0,0 +1,66 @@
+package net.luxcube.minecraft.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A panel answering the resources endpoint of the client API on a local port,
+ * enough to drive a snapshot through the whole bridge: worker, rate limiter, coalescing and HTTP client.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class StubPanel implements AutoCloseable {
+
+    private static final byte[] RESOURCES = (
+        "{\"object\":\"stats\",\"attributes\":{\"current_state\":\"running\",\"is_suspended\":false,"
+            + "\"resources\":{\"memory_bytes\":536870912,\"cpu_absolute\":12.5,\"disk_bytes\":1073741824,"
+            + "\"network_rx_bytes\":1024,\"network_tx_bytes\":2048,\"uptime\":60000}}}"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public StubPanel() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newFixedThreadPool(8);
+
+        server.setExecutor(executor);
+        server.createContext("/api/client/servers/", this::handle);
+        server.start();
+    }
+
+    public @NotNull String getURL() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    private void handle(@NotNull HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestURI().getPath().endsWith("/resources")) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, RESOURCES.length);
+
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(RESOURCES);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+}
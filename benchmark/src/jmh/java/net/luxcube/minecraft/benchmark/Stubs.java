@@ -0,0 +1,59 @@
+package net.luxcube.minecraft.benchmark;
+
+import com.mattmalec.pterodactyl4j.application.entities.ApplicationServer;
+import com.mattmalec.pterodactyl4j.application.entities.Node;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds Pterodactyl4J entities answering only the getters the binder reads,
+ * so the benchmarks measure the binder instead of JSON parsing.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class Stubs {
+
+    public static @NotNull Node node(@NotNull String id, boolean maintenance, long memory, long overallocate) {
+        return stub(Node.class, Map.of(
+            "getId", id,
+            "getName", "node-" + id,
+            "hasMaintanceMode", maintenance,
+            "getMemory", String.valueOf(memory),
+            "getMemoryOverallocate", String.valueOf(overallocate)
+        ));
+    }
+
+    public static @NotNull ApplicationServer server(int index, @NotNull String nodeId, @NotNull String allocationId) {
+        return stub(ApplicationServer.class, Map.of(
+            "getId", String.valueOf(index),
+            "getIdentifier", String.format("%08x", index),
+            "getName", "server-" + index,
+            "getUUID", new UUID(index, index),
+            "getNodeId", nodeId,
+            "getDefaultAllocationId", allocationId,
+            "getOwnerId", String.valueOf(index % 64)
+        ));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> @NotNull T stub(@NotNull Class<T> type, @NotNull Map<String, Object> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) -> {
+            Object answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer;
+            }
+
+            return switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> type.getSimpleName() + answers;
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        });
+    }
+
+}
@@ -0,0 +1,55 @@
+package net.luxcube.minecraft.benchmark;
+
+import net.luxcube.minecraft.exception.ServerDoesntExistException;
+import net.luxcube.minecraft.util.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the error handling used around the panel calls, where a miss is translated
+ * into a domain exception through {@link Try#catching(Class, java.util.function.Consumer)}.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TryBenchmark {
+
+    private final String value = "server";
+
+    @Benchmark
+    public String success() {
+        return Try.catching(() -> value)
+            .catching(IllegalStateException.class, e -> {
+                throw new ServerDoesntExistException(value);
+            }).unwrap();
+    }
+
+    @Benchmark
+    public Object translatedMiss() {
+        try {
+            return Try.<String>catching(() -> {
+                throw new IllegalStateException("Not found");
+            }).catching(IllegalStateException.class, e -> {
+                throw new ServerDoesntExistException(value);
+            }).unwrap();
+        } catch (ServerDoesntExistException e) {
+            return e;
+        }
+    }
+
+}
@@ -1,16 +1,24 @@
 package net.luxcube.minecraft;
 
+import net.luxcube.minecraft.deadline.Deadline;
 import net.luxcube.minecraft.factory.PteroFactory;
 import net.luxcube.minecraft.factory.PteroFactoryImpl;
+import net.luxcube.minecraft.metrics.PteroMetrics;
+import net.luxcube.minecraft.options.PteroOptions;
 import net.luxcube.minecraft.repository.server.ServerRepository;
 import net.luxcube.minecraft.repository.server.ServerRepositoryImpl;
 import net.luxcube.minecraft.repository.user.UserRepository;
 import net.luxcube.minecraft.repository.user.UserRepositoryImpl;
+import net.luxcube.minecraft.sync.InventoryListener;
 import net.luxcube.minecraft.vo.PteroBridgeVO;
 import org.jetbrains.annotations.NotNull;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * @author Luiz O. F. Corrêa
@@ -27,6 +35,7 @@ public class PteroManagerImpl implements PteroManager {
 
     private final URL url;
 
+    private final PteroBridgeVO bridge;
 
     public PteroManagerImpl(
         @NotNull String applicationKey,
@@ -34,10 +43,27 @@ public class PteroManagerImpl implements PteroManager {
         @NotNull String url,
         int nThreads
     ) {
-        if (nThreads <= 0) {
+        this(applicationKey, clientKey, url, PteroOptions.ofThreads(nThreads));
+    }
+
+    public PteroManagerImpl(
+        @NotNull String applicationKey,
+        @NotNull String clientKey,
+        @NotNull String url,
+        @NotNull PteroOptions options
+    ) {
+        if (options.getThreads() <= 0) {
             throw new IllegalArgumentException("nThreads must be greater than 0");
         }
 
+        if (options.getMaxInFlight() <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be greater than 0");
+        }
+
+        if (options.getQueueDepth() <= 0) {
+            throw new IllegalArgumentException("queueDepth must be greater than 0");
+        }
+
         this.applicationKey = applicationKey;
         this.clientKey = clientKey;
 
@@ -54,13 +80,15 @@ public class PteroManagerImpl implements PteroManager {
             targetUrl,
             clientKey,
             applicationKey,
-            nThreads
+            options
         );
 
         if (pteroBridgeVO == null) {
             throw new RuntimeException("Invalid Pterodactyl bridge configuration");
         }
 
+        this.bridge = pteroBridgeVO;
+
         this.factory = new PteroFactoryImpl(pteroBridgeVO);
         this.serverRepository = new ServerRepositoryImpl(pteroBridgeVO);
         this.userRepository = new UserRepositoryImpl(pteroBridgeVO);
@@ -81,6 +109,7 @@ public class PteroManagerImpl implements PteroManager {
         this.applicationKey = applicationKey;
         this.clientKey = clientKey;
         this.url = url;
+        this.bridge = bridgeVO;
     }
 
 
@@ -114,4 +143,52 @@ public class PteroManagerImpl implements PteroManager {
         return url;
     }
 
+    @Override
+    public @NotNull CompletableFuture<PteroManager> whenReady() {
+        if (factory instanceof PteroFactoryImpl factoryImpl) {
+            return factoryImpl.retrieveAccount()
+                .thenApply(account -> this);
+        }
+
+        return CompletableFuture.completedFuture(this);
+    }
+
+    @Override
+    public void registerInventoryListener(@NotNull InventoryListener listener) {
+        bridge.getInventorySync()
+            .registerListener(listener);
+    }
+
+    @Override
+    public void unregisterInventoryListener(@NotNull InventoryListener listener) {
+        bridge.getInventorySync()
+            .unregisterListener(listener);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> syncInventory() {
+        return bridge.getInventorySync()
+            .sync();
+    }
+
+    @Override
+    public <T> @NotNull CompletableFuture<T> withTimeout(@NotNull Duration timeout, @NotNull Supplier<CompletableFuture<T>> operations) {
+        return bridge.getDeadlines()
+            .within(new Deadline(timeout.toNanos(), TimeUnit.NANOSECONDS), operations);
+    }
+
+    @Override
+    public @NotNull PteroMetrics getMetrics() {
+        return bridge.getMetrics();
+    }
+
+    @Override
+    public void shutdown() {
+        bridge.shutdown();
+    }
+
+    public @NotNull PteroBridgeVO getBridge() {
+        return bridge;
+    }
+
 }
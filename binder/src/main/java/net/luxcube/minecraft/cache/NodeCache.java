@@ -0,0 +1,164 @@
+package net.luxcube.minecraft.cache;
+
+import com.mattmalec.pterodactyl4j.application.entities.ApplicationAllocation;
+import com.mattmalec.pterodactyl4j.application.entities.ApplicationServer;
+import com.mattmalec.pterodactyl4j.application.entities.Node;
+import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.util.Pair;
+import net.luxcube.minecraft.util.Servers;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
+import org.jetbrains.annotations.Blocking;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the node names and their allocation addresses, so mapping a page of
+ * servers costs a couple of requests per node instead of two per server.
+ * A node is loaded with all its allocations the first time one of its servers
+ * is seen and again on every {@link #revalidate()}, while an allocation created in between
+ * is fetched on its own when a server points to it.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class NodeCache {
+
+    private final PteroBridgeVO bridge;
+
+    private final Map<String, NodeEntry> nodes = new ConcurrentHashMap<>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    public NodeCache(@NotNull PteroBridgeVO bridge) {
+        this.bridge = bridge;
+    }
+
+    /**
+     * Resolves the address of the default allocation and the node name of the server.
+     *
+     * @param applicationServer The server to be resolved.
+     * @return The address and the node name.
+     */
+    @Blocking
+    public @NotNull Pair<String, String> resolve(@NotNull ApplicationServer applicationServer) {
+        String nodeId = applicationServer.getNodeId(),
+            allocationId = applicationServer.getDefaultAllocationId();
+
+        NodeEntry entry = nodes.get(nodeId);
+        if (entry == null) {
+            entry = load(nodeId, null);
+        } else if (entry.addresses().containsKey(allocationId)) {
+            hits.increment();
+        }
+
+        String address = entry.addresses().get(allocationId);
+        if (address == null) {
+            // The allocation was created after the node was listed, ask for it alone instead of the whole node
+            ApplicationAllocation allocation = bridge.executeApplication(
+                applicationServer.retrieveDefaultAllocation()
+            );
+
+            address = Servers.ensureAddress(allocation);
+            entry.addresses().put(allocationId, address);
+        }
+
+        return new Pair<>(address, entry.name());
+    }
+
+    /**
+     * Loads again every known node, dropping the ones that no longer exist.
+     */
+    @Blocking
+    public void revalidate() {
+        for (String nodeId : List.copyOf(nodes.keySet())) {
+            try {
+                load(nodeId, nodes.get(nodeId));
+            } catch (@NotNull Exception e) {
+                PteroLogger.debug("Couldn't revalidate node {}: {}", nodeId, e.getMessage());
+                nodes.remove(nodeId);
+            }
+        }
+    }
+
+    /**
+     * Puts a node known from elsewhere, such as the persisted inventory.
+     */
+    public void seed(@NotNull String nodeId, @NotNull String name, @NotNull Map<String, String> addresses) {
+        nodes.putIfAbsent(nodeId, new NodeEntry(name, new ConcurrentHashMap<>(addresses)));
+    }
+
+    public @NotNull Map<String, NodeEntry> getEntries() {
+        return Map.copyOf(nodes);
+    }
+
+    public void invalidate(@NotNull String nodeId) {
+        nodes.remove(nodeId);
+    }
+
+    public void invalidateAll() {
+        nodes.clear();
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    private @NotNull NodeEntry load(@NotNull String nodeId, @Nullable NodeEntry stale) {
+        Object lock = locks.computeIfAbsent(nodeId, ignored -> new Object());
+
+        synchronized (lock) {
+            // Another thread may have loaded it while we were waiting
+            NodeEntry current = nodes.get(nodeId);
+            if (current != null && current != stale) {
+                return current;
+            }
+
+            PteroLogger.debug("Loading node {} and its allocations", nodeId);
+            loads.increment();
+
+            Node node = bridge.executeApplication(
+                bridge.getApplication()
+                    .retrieveNodeById(nodeId)
+            );
+
+            List<ApplicationAllocation> allocations = bridge.executeApplication(
+                node.retrieveAllocations()
+                    .all()
+            );
+
+            Map<String, String> addresses = new ConcurrentHashMap<>(allocations.size());
+
+            for (ApplicationAllocation allocation : allocations) {
+                addresses.put(allocation.getId(), Servers.ensureAddress(allocation));
+            }
+
+            NodeEntry entry = new NodeEntry(node.getName(), addresses);
+            nodes.put(nodeId, entry);
+
+            return entry;
+        }
+    }
+
+    /**
+     * @param name      The name of the node.
+     * @param addresses The addresses of the node's allocations, keyed by the allocation id.
+     */
+    public record NodeEntry(@NotNull String name, @NotNull Map<String, String> addresses) {
+    }
+
+}
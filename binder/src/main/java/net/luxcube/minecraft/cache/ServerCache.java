@@ -0,0 +1,170 @@
+package net.luxcube.minecraft.cache;
+
+import net.luxcube.minecraft.server.PteroServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the resolved servers, so lookups don't need to hit the panel
+ * for metadata that almost never changes.
+ * Entries are indexed by identifier and can also be found by name, internal id or UUID.
+ * They expire after the configured time to live and the least recently used entry
+ * is evicted once the cache is full.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class ServerCache {
+
+    private final long ttl;
+    private final int maximumSize;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final Map<String, String> byName = new HashMap<>();
+    private final Map<String, String> byInternalId = new HashMap<>();
+    private final Map<UUID, String> byUUID = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ServerCache(@NotNull Duration ttl, int maximumSize) {
+        this.ttl = ttl.toNanos();
+        this.maximumSize = maximumSize;
+
+        this.entries = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= ServerCache.this.maximumSize) {
+                    return false;
+                }
+
+                unlink(eldest.getValue());
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maximumSize > 0 && ttl > 0;
+    }
+
+    public synchronized @Nullable PteroServer getByIdentifier(@NotNull String identifier) {
+        return lookup(identifier);
+    }
+
+    public synchronized @Nullable PteroServer getByName(@NotNull String name) {
+        return lookup(byName.get(name));
+    }
+
+    public synchronized @Nullable PteroServer getByInternalId(@NotNull String internalId) {
+        return lookup(byInternalId.get(internalId));
+    }
+
+    public synchronized @Nullable PteroServer getByUUID(@NotNull UUID uuid) {
+        return lookup(byUUID.get(uuid));
+    }
+
+    public synchronized void put(@NotNull PteroServer server) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Entry previous = entries.remove(server.getIdentifier());
+        if (previous != null) {
+            unlink(previous);
+        }
+
+        Entry entry = new Entry(server, server.getName(), System.nanoTime() + ttl);
+
+        byName.put(entry.name(), server.getIdentifier());
+        byInternalId.put(server.getInternalId(), server.getIdentifier());
+        byUUID.put(server.getUUID(), server.getIdentifier());
+
+        entries.put(server.getIdentifier(), entry);
+    }
+
+    public synchronized void invalidate(@NotNull PteroServer server) {
+        Entry entry = entries.remove(server.getIdentifier());
+        if (entry != null) {
+            unlink(entry);
+        }
+
+        byName.remove(server.getName(), server.getIdentifier());
+    }
+
+    public synchronized void invalidateName(@NotNull String name) {
+        String identifier = byName.remove(name);
+        if (identifier == null) {
+            return;
+        }
+
+        Entry entry = entries.remove(identifier);
+        if (entry != null) {
+            unlink(entry);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        byName.clear();
+        byInternalId.clear();
+        byUUID.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private @Nullable PteroServer lookup(@Nullable String identifier) {
+        Entry entry = identifier == null ? null : entries.get(identifier);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (System.nanoTime() - entry.expiresAt() > 0) {
+            entries.remove(identifier);
+            unlink(entry);
+
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.server();
+    }
+
+    private void unlink(@NotNull Entry entry) {
+        PteroServer server = entry.server();
+
+        byName.remove(entry.name(), server.getIdentifier());
+        byInternalId.remove(server.getInternalId(), server.getIdentifier());
+        byUUID.remove(server.getUUID(), server.getIdentifier());
+    }
+
+    private record Entry(@NotNull PteroServer server, @NotNull String name, long expiresAt) {
+    }
+
+}
@@ -0,0 +1,121 @@
+package net.luxcube.minecraft.deadline;
+
+import net.luxcube.minecraft.exception.OperationTimeoutException;
+import okhttp3.Call;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Represents the instant an operation must be completed by, shared by every request it makes.
+ * Like the {@link net.luxcube.minecraft.metrics.OperationCall}, it's the current one of the thread
+ * running the operation and it's carried into the tasks the operation submits to the worker.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long timeout;
+    private final long expiresAt;
+
+    private final Set<Call> calls = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean expired;
+
+    public Deadline(long timeout, @NotNull TimeUnit unit) {
+        this.timeout = unit.toNanos(timeout);
+        this.expiresAt = System.nanoTime() + this.timeout;
+    }
+
+    /**
+     * @return The deadline of the operation run by the current thread, if any.
+     */
+    public static @Nullable Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes the deadline the current one of the thread.
+     *
+     * @return The previous deadline, to be handed back to {@link #restore(Deadline)}.
+     */
+    public static @Nullable Deadline enter(@Nullable Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+
+        return previous;
+    }
+
+    public static void restore(@Nullable Deadline previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Calls the supplier without any deadline, for work shared by many operations
+     * that must not fail because one of them gave up, such as rebuilding an index.
+     */
+    public static <T> T detached(@NotNull Supplier<T> supplier) {
+        Deadline previous = enter(null);
+        try {
+            return supplier.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * @return The nanoseconds left, zero or less once expired.
+     */
+    public long remaining() {
+        return expired ? 0 : expiresAt - System.nanoTime();
+    }
+
+    public boolean isExpired() {
+        return remaining() <= 0;
+    }
+
+    /**
+     * Marks the deadline as expired and cancels the requests still in flight.
+     */
+    public void expire() {
+        expired = true;
+
+        for (Call call : calls) {
+            call.cancel();
+        }
+    }
+
+    /**
+     * Keeps the request until {@link #untrack(Call)}, so it's cancelled if the deadline expires meanwhile.
+     */
+    public void track(@NotNull Call call) {
+        calls.add(call);
+
+        // The deadline may have expired while the request was being tracked
+        if (expired) {
+            call.cancel();
+        }
+    }
+
+    public void untrack(@NotNull Call call) {
+        calls.remove(call);
+    }
+
+    public @NotNull OperationTimeoutException toException() {
+        return OperationTimeoutException.stackless(
+            "The operation did not complete within " + TimeUnit.NANOSECONDS.toMillis(timeout) + " ms."
+        );
+    }
+
+}
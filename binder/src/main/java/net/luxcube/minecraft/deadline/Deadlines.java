@@ -0,0 +1,265 @@
+package net.luxcube.minecraft.deadline;
+
+import com.mattmalec.pterodactyl4j.PteroAction;
+import net.luxcube.minecraft.exception.OperationTimeoutException;
+import net.luxcube.minecraft.metrics.BridgeMetrics;
+import net.luxcube.minecraft.metrics.OperationCall;
+import okhttp3.Call;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the operations of the bridge and their requests to the panel.
+ * An operation inherits the deadline of the caller, or gets the default one, and every request
+ * it makes is given what's left of it, capped by the request timeout.
+ * Requests are always waited for with a timeout, so a dead panel never holds a worker thread.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class Deadlines {
+
+    private final long operationTimeout;
+    private final long requestTimeout;
+
+    private final ScheduledExecutorService scheduler;
+
+    public Deadlines(
+        @NotNull Duration operationTimeout,
+        @NotNull Duration requestTimeout,
+        @NotNull ScheduledExecutorService scheduler
+    ) {
+        this.operationTimeout = Math.max(0, operationTimeout.toNanos());
+        this.requestTimeout = Math.max(0, requestTimeout.toNanos());
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Calls the operation under the deadline of the caller, or under a new default one.
+     *
+     * @param call The call of the operation.
+     * @return The future of the call, failed once the deadline expires.
+     */
+    public <T> CompletableFuture<T> within(@NotNull Supplier<CompletableFuture<T>> call) {
+        // Nested operations share the deadline of the outermost one
+        if (operationTimeout == 0 || Deadline.current() != null) {
+            return call.get();
+        }
+
+        return within(new Deadline(operationTimeout, TimeUnit.NANOSECONDS), call);
+    }
+
+    /**
+     * Calls the operation under the given deadline.
+     *
+     * @param deadline The deadline of the operation.
+     * @param call     The call of the operation.
+     * @return The future of the call, failed once the deadline expires.
+     */
+    public <T> CompletableFuture<T> within(@NotNull Deadline deadline, @NotNull Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> future;
+
+        Deadline previous = Deadline.enter(deadline);
+        try {
+            future = call.get();
+        } finally {
+            Deadline.restore(previous);
+        }
+
+        return bound(deadline, future);
+    }
+
+    /**
+     * Bounds the future by the deadline of the caller, such as a future shared with other callers
+     * that can't be bounded by the deadline of any of them.
+     *
+     * @param future The future to be bounded.
+     * @return A future failed once the deadline expires, or the same future if there's no deadline.
+     */
+    public <T> CompletableFuture<T> bound(@NotNull CompletableFuture<T> future) {
+        Deadline deadline = Deadline.current();
+        return deadline == null ? future : bound(deadline, future);
+    }
+
+    private <T> CompletableFuture<T> bound(@NotNull Deadline deadline, @NotNull CompletableFuture<T> future) {
+        // Answered from memory, there is nothing to bound
+        if (future.isDone()) {
+            return future;
+        }
+
+        CompletableFuture<T> bounded = new CompletableFuture<>();
+
+        ScheduledFuture<?> timer;
+        try {
+            timer = scheduler.schedule(() -> {
+                if (bounded.completeExceptionally(deadline.toException())) {
+                    deadline.expire();
+                }
+            }, deadline.remaining(), TimeUnit.NANOSECONDS);
+        } catch (@NotNull RejectedExecutionException e) {
+            // The bridge is shutting down, its worker fails the pending calls anyway
+            return future;
+        }
+
+        future.whenComplete((value, throwable) -> {
+            timer.cancel(false);
+
+            if (throwable == null) {
+                bounded.complete(value);
+            } else {
+                // A request cut by the deadline fails with whatever the client throws, report the deadline instead
+                bounded.completeExceptionally(deadline.isExpired() ? deadline.toException() : throwable);
+            }
+        });
+
+        return bounded;
+    }
+
+    /**
+     * Executes the action, waiting for its answer no longer than what's left of the current deadline
+     * and the request timeout. The action is also dropped by Pterodactyl4J if it's still queued by then.
+     * Only the wait is bounded: Pterodactyl4J doesn't expose its calls, so one already sent isn't cancelled
+     * and keeps running until the panel answers or the call timeout of the HTTP client cuts it.
+     *
+     * @param action The action to be executed.
+     * @return The answer of the panel.
+     */
+    public <T> T execute(@NotNull PteroAction<T> action) {
+        // Sent from the threads of Pterodactyl4J, where the operation isn't known, so it's counted here
+        OperationCall operation = BridgeMetrics.current();
+        if (operation != null) {
+            operation.recordHttpCall();
+        }
+
+        Deadline deadline = Deadline.current();
+
+        long budget = budget(deadline);
+        if (budget == 0) {
+            return action.execute();
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        action.deadline(System.currentTimeMillis() + TimeUnit.NANOSECONDS.toMillis(budget))
+            .executeAsync(future::complete, future::completeExceptionally);
+
+        try {
+            return future.get(budget, TimeUnit.NANOSECONDS);
+        } catch (@NotNull TimeoutException e) {
+            throw timeout(deadline, budget);
+        } catch (@NotNull ExecutionException e) {
+            if (deadline != null && deadline.isExpired()) {
+                throw deadline.toException();
+            }
+
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+
+            if (cause instanceof Error error) {
+                throw error;
+            }
+
+            throw new CompletionException(cause);
+        } catch (@NotNull InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Executes the call, bounded by what's left of the current deadline and the request timeout.
+     * The call is cancelled as soon as the deadline expires.
+     *
+     * @param call The call to be executed.
+     * @return The response of the panel.
+     */
+    public @NotNull Response execute(@NotNull Call call) throws IOException {
+        Deadline deadline = Deadline.current();
+
+        long budget = budget(deadline);
+        if (budget > 0) {
+            call.timeout()
+                .timeout(budget, TimeUnit.NANOSECONDS);
+        }
+
+        if (deadline == null) {
+            return call.execute();
+        }
+
+        deadline.track(call);
+        try {
+            return call.execute();
+        } catch (@NotNull IOException e) {
+            if (deadline.isExpired()) {
+                throw deadline.toException();
+            }
+
+            throw e;
+        } finally {
+            deadline.untrack(call);
+        }
+    }
+
+    /**
+     * Waits on the calling thread, failing right away if the deadline would expire meanwhile.
+     *
+     * @param nanos The nanoseconds to wait.
+     */
+    public void sleep(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+
+        Deadline deadline = Deadline.current();
+        if (deadline != null && deadline.remaining() <= nanos) {
+            throw deadline.toException();
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (@NotNull InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * @return The nanoseconds a request may take, zero if it's unbounded.
+     */
+    private long budget(Deadline deadline) {
+        if (deadline == null) {
+            return requestTimeout;
+        }
+
+        long remaining = deadline.remaining();
+        if (remaining <= 0) {
+            throw deadline.toException();
+        }
+
+        return requestTimeout == 0 ? remaining : Math.min(requestTimeout, remaining);
+    }
+
+    private @NotNull OperationTimeoutException timeout(Deadline deadline, long budget) {
+        if (deadline != null && deadline.isExpired()) {
+            return deadline.toException();
+        }
+
+        return OperationTimeoutException.stackless(
+            "The request did not complete within " + TimeUnit.NANOSECONDS.toMillis(budget) + " ms."
+        );
+    }
+
+}
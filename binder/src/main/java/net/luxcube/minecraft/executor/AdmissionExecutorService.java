@@ -0,0 +1,193 @@
+package net.luxcube.minecraft.executor;
+
+import net.luxcube.minecraft.deadline.Deadline;
+import net.luxcube.minecraft.exception.BridgeOverloadedException;
+import net.luxcube.minecraft.metrics.BridgeMetrics;
+import net.luxcube.minecraft.metrics.OperationCall;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded admission in front of the bridge worker.
+ * Once there are more pending tasks than the queue depth, new tasks are
+ * rejected with {@link BridgeOverloadedException} instead of being queued.
+ * When the worker starts a thread per task, a task also stays queued until it
+ * holds one of the in-flight permits, so the queue depth bounds those threads too.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class AdmissionExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final int queueDepth;
+
+    @Nullable
+    private final Semaphore permits;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    public AdmissionExecutorService(@NotNull ExecutorService delegate, int queueDepth) {
+        this(delegate, queueDepth, 0);
+    }
+
+    /**
+     * @param maxInFlight The maximum of tasks running at the same time, zero leaves it to the delegate.
+     */
+    public AdmissionExecutorService(@NotNull ExecutorService delegate, int queueDepth, int maxInFlight) {
+        if (queueDepth <= 0) {
+            throw new IllegalArgumentException("queueDepth must be greater than 0");
+        }
+
+        if (maxInFlight < 0) {
+            throw new IllegalArgumentException("maxInFlight must not be negative");
+        }
+
+        this.delegate = delegate;
+        this.queueDepth = queueDepth;
+        this.permits = maxInFlight == 0 ? null : new Semaphore(maxInFlight);
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        if (queued.incrementAndGet() > queueDepth) {
+            queued.decrementAndGet();
+            rejected.increment();
+
+            throw BridgeOverloadedException.stackless(queueDepth);
+        }
+
+        // Carry the caller's operation into the task, so its wait and execution are attributed to it
+        OperationCall operation = BridgeMetrics.current();
+        long submitted = operation == null ? 0 : System.nanoTime();
+        if (operation != null) {
+            operation.taskQueued();
+        }
+
+        // And its deadline, so the requests of the task only get what's left of it
+        Deadline deadline = Deadline.current();
+
+        try {
+            delegate.execute(() -> {
+                if (permits != null) {
+                    try {
+                        permits.acquire();
+                    } catch (@NotNull InterruptedException e) {
+                        // Shutting down, the task is dropped like the ones still queued on a fixed pool
+                        Thread.currentThread().interrupt();
+
+                        queued.decrementAndGet();
+                        rejected.increment();
+
+                        if (operation != null) {
+                            operation.taskRejected();
+                        }
+
+                        return;
+                    }
+                }
+
+                queued.decrementAndGet();
+                active.incrementAndGet();
+
+                OperationCall previous = operation == null ? null : BridgeMetrics.enter(operation);
+                Deadline previousDeadline = deadline == null ? null : Deadline.enter(deadline);
+                long started = operation == null ? 0 : System.nanoTime();
+                try {
+                    command.run();
+                } finally {
+                    if (deadline != null) {
+                        Deadline.restore(previousDeadline);
+                    }
+
+                    if (operation != null) {
+                        operation.recordTask(started - submitted, System.nanoTime() - started);
+                        BridgeMetrics.restore(previous);
+                    }
+
+                    active.decrementAndGet();
+                    completed.increment();
+
+                    if (permits != null) {
+                        permits.release();
+                    }
+                }
+            });
+        } catch (@NotNull RejectedExecutionException e) {
+            queued.decrementAndGet();
+            rejected.increment();
+
+            if (operation != null) {
+                operation.taskRejected();
+            }
+
+            throw e;
+        }
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getQueuedTasks() {
+        return queued.get();
+    }
+
+    public int getActiveTasks() {
+        return active.get();
+    }
+
+    /**
+     * @return The in-flight permits left, or -1 if the delegate bounds its tasks by itself.
+     */
+    public int getAvailablePermits() {
+        return permits == null ? -1 : permits.availablePermits();
+    }
+
+    public long getRejectedTasks() {
+        return rejected.sum();
+    }
+
+    public long getCompletedTasks() {
+        return completed.sum();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public @NotNull List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+}
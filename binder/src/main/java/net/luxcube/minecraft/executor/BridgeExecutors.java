@@ -0,0 +1,69 @@
+package net.luxcube.minecraft.executor;
+
+import com.mattmalec.pterodactyl4j.utils.NamedThreadFactory;
+import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.options.ExecutorType;
+import net.luxcube.minecraft.options.PteroOptions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class BridgeExecutors {
+
+    public static AdmissionExecutorService createWorker(@NotNull PteroOptions options) {
+        if (options.getExecutorType() == ExecutorType.VIRTUAL) {
+            ExecutorService virtual = createVirtual(options);
+            if (virtual != null) {
+                // A thread per task, the admission caps how many of them call the panel at once
+                return new AdmissionExecutorService(virtual, options.getQueueDepth(), options.getMaxInFlight());
+            }
+        }
+
+        return new AdmissionExecutorService(createFixed(options.getThreads()), options.getQueueDepth());
+    }
+
+    public static ExecutorService createFixed(int nThreads) {
+        if (nThreads < 1) {
+            PteroLogger.severe("Invalid number of threads: {}", nThreads);
+            nThreads = 1;
+        }
+
+        PteroLogger.debug("PteroBridge worker initialized with {} threads", nThreads);
+        return new ThreadPoolExecutor(
+            nThreads,
+            nThreads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new NamedThreadFactory("PteroMC")
+        );
+    }
+
+    /**
+     * @return A virtual thread per task executor, or {@code null} if the runtime doesn't have virtual threads.
+     */
+    public static @Nullable ExecutorService createVirtual(@NotNull PteroOptions options) {
+        ExecutorService virtual;
+        try {
+            // Compiled against Java 17, so we need to look it up at runtime
+            virtual = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (@NotNull ReflectiveOperationException e) {
+            PteroLogger.warning("Virtual threads are not available in this runtime, falling back to a fixed worker");
+            return null;
+        }
+
+        PteroLogger.debug("PteroBridge worker initialized with virtual threads and {} calls in-flight", options.getMaxInFlight());
+        return virtual;
+    }
+
+}
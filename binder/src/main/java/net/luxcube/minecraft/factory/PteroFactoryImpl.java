@@ -10,6 +10,7 @@ import com.mattmalec.pterodactyl4j.exceptions.PteroException;
 import net.luxcube.minecraft.comparator.NodeComparator;
 import net.luxcube.minecraft.exception.EggDoesntExistException;
 import net.luxcube.minecraft.exception.InsufficientResourcesException;
+import net.luxcube.minecraft.exception.OperationTimeoutException;
 import net.luxcube.minecraft.exception.ServerAlreadyExistsException;
 import net.luxcube.minecraft.exception.UserAlreadyExistsException;
 import net.luxcube.minecraft.listener.ServerListener;
@@ -30,7 +31,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 /**
@@ -45,18 +45,68 @@ public class PteroFactoryImpl implements PteroFactory {
     public static final NodeComparator NODE_COMPARATOR = new NodeComparator();
 
     private final PteroBridgeVO bridge;
-    private final ApplicationUser account;
+
+    private volatile CompletableFuture<ApplicationUser> account;
 
     public PteroFactoryImpl(@NotNull PteroBridgeVO bridge) {
         this.bridge = bridge;
+    }
 
-        Account clientAccount = bridge.getClient()
-            .retrieveAccount()
-            .execute();
+    /**
+     * Resolves the application user that owns the client key.
+     * It's only requested once, unless the previous attempt has failed, and every caller waits for it under its own deadline.
+     *
+     * @return A future of the completable account.
+     */
+    public CompletableFuture<ApplicationUser> retrieveAccount() {
+        CompletableFuture<ApplicationUser> current = account;
+        if (current == null) {
+            current = resolveAccount();
+        }
 
-        this.account = bridge.getApplication()
-            .retrieveUserById(clientAccount.getId())
-            .execute();
+        return bridge.joinShared(current);
+    }
+
+    private CompletableFuture<ApplicationUser> resolveAccount() {
+        synchronized (this) {
+            if (account != null) {
+                return account;
+            }
+
+            PteroLogger.debug("Resolving the account of the client key");
+
+            // Shared by every caller, so the deadline of the one that started it must not cut it
+            CompletableFuture<ApplicationUser> future = bridge.supplyShared(() -> {
+                Account clientAccount = bridge.executeClient(
+                    bridge.getClient()
+                        .retrieveAccount()
+                );
+
+                return bridge.executeApplication(
+                    bridge.getApplication()
+                        .retrieveUserById(clientAccount.getId())
+                );
+            });
+
+            account = future;
+
+            future.whenComplete((applicationUser, throwable) -> {
+                if (throwable == null) {
+                    return;
+                }
+
+                PteroLogger.severe("Failed to resolve the account of the client key", throwable);
+
+                // Let the next call try it again
+                synchronized (this) {
+                    if (account == future) {
+                        account = null;
+                    }
+                }
+            });
+
+            return future;
+        }
     }
 
     @Override
@@ -70,93 +120,102 @@ public class PteroFactoryImpl implements PteroFactory {
         int disk,
         int cpu
     ) {
-        PteroLogger.debug("Creating server %s for %s", name, owner.getName());
-
-        return CompletableFuture.supplyAsync(() -> {
-            boolean exists = false;
-            try {
-                exists = bridge.getApplication()
-                    .retrieveServersByName(name, true)
-                    .timeout(5, TimeUnit.SECONDS)
-                    .execute()
-                    .size() > 0;
-            } catch (Exception ignored) {
-                throw new ServerAlreadyExistsException(name);
-            }
+        PteroLogger.debug("Creating server {} for {}", name, owner.getName());
 
-            if (exists) {
-                throw new ServerAlreadyExistsException(name);
-            }
+        return bridge.getMetrics().time("PteroFactory.createServer", name, () -> {
+            return bridge.supplyAsync(() -> {
+                boolean exists = false;
+                try {
+                    exists = bridge.executeApplication(
+                        bridge.getApplication()
+                            .retrieveServersByName(name, true)
+                    ).size() > 0;
+                } catch (OperationTimeoutException e) {
+                    throw e;
+                } catch (Exception ignored) {
+                    throw ServerAlreadyExistsException.stackless(name);
+                }
 
-            return false;
-        }, bridge.getWorker()).thenApply(exists -> {
-            if (exists) {
-                throw new ServerAlreadyExistsException(name);
-            }
+                if (exists) {
+                    throw ServerAlreadyExistsException.stackless(name);
+                }
 
-            // Let's find an node with enough resources
-            Node targetNode = bridge.getApplication()
-                .retrieveNodes()
-                .cache(false)
-                .stream()
-                .min(NODE_COMPARATOR)
-                .orElseThrow(InsufficientResourcesException::new);
-
-            Map<String, EnvironmentValue<?>> envMap = new HashMap<>();
-
-            envMap.put("SERVER_JARFILE", EnvironmentValue.of("server.jar"));
-
-            ApplicationEgg targetEgg = bridge.getApplication()
-                .retrieveEggs()
-                .execute()
-                .stream()
-                .filter(applicationEgg -> applicationEgg.getName().equalsIgnoreCase(egg))
-                .findAny()
-                .orElseThrow(() -> new EggDoesntExistException(egg));
-
-            Location location = targetNode.retrieveLocation()
-                .execute();
-
-            ApplicationServer applicationServer = bridge.getApplication()
-                .createServer()
-                .setName(name)
-                .setOwner(account)
-                .setDescription(owner.getName() + "'s server")
-                .setEgg(targetEgg)
-                .setAllocations(3)
-                .setLocation(location)
-                .setBackups(1)
-                .setCPU(cpu)
-                .setDockerImage(dockerImage)
-                .setMemory(memory, DataType.MB)
-                .setStartupCommand(startupCommand)
-                .setEnvironment(envMap)
-                .setDatabases(1)
-                .setDisk(disk, DataType.MB)
-                .execute();
-
-            ClientServer server = bridge.getClient()
-                .retrieveServerByIdentifier(applicationServer.getIdentifier())
-                .execute();
-
-            if (server.isInstalling()) {
-                server.getWebSocketBuilder()
-                    .addEventListeners(new ServerListener(bridge, owner.getEmail()))
-                    .build();
-            }
+                return false;
+            }).thenCombine(retrieveAccount(), (exists, account) -> {
+                if (exists) {
+                    throw ServerAlreadyExistsException.stackless(name);
+                }
 
-            // Remove unnecessary request
-            Allocation allocation = server.getPrimaryAllocation();
-
-            return new PteroServerImpl(
-                bridge,
-                applicationServer.getIdentifier(),
-                applicationServer.getId(),
-                Servers.ensureAddress(allocation),
-                targetNode.getName(),
-                name,
-                applicationServer.getUUID()
-            );
+                // Let's find an node with enough resources
+                Node targetNode = bridge.executeApplication(
+                    bridge.getApplication()
+                        .retrieveNodes()
+                        .cache(false)
+                        .all()
+                ).stream()
+                    .min(NODE_COMPARATOR)
+                    .orElseThrow(InsufficientResourcesException::new);
+
+                Map<String, EnvironmentValue<?>> envMap = new HashMap<>();
+
+                envMap.put("SERVER_JARFILE", EnvironmentValue.of("server.jar"));
+
+                ApplicationEgg targetEgg = bridge.executeApplication(
+                    bridge.getApplication()
+                        .retrieveEggs()
+                ).stream()
+                    .filter(applicationEgg -> applicationEgg.getName().equalsIgnoreCase(egg))
+                    .findAny()
+                    .orElseThrow(() -> EggDoesntExistException.stackless(egg));
+
+                Location location = bridge.executeApplication(targetNode.retrieveLocation());
+
+                ApplicationServer applicationServer = bridge.executeApplication(
+                    bridge.getApplication()
+                        .createServer()
+                        .setName(name)
+                        .setOwner(account)
+                        .setDescription(owner.getName() + "'s server")
+                        .setEgg(targetEgg)
+                        .setAllocations(3)
+                        .setLocation(location)
+                        .setBackups(1)
+                        .setCPU(cpu)
+                        .setDockerImage(dockerImage)
+                        .setMemory(memory, DataType.MB)
+                        .setStartupCommand(startupCommand)
+                        .setEnvironment(envMap)
+                        .setDatabases(1)
+                        .setDisk(disk, DataType.MB)
+                );
+
+                ClientServer server = bridge.executeClient(
+                    bridge.getClient()
+                        .retrieveServerByIdentifier(applicationServer.getIdentifier())
+                );
+
+                if (server.isInstalling()) {
+                    bridge.getSocketManager()
+                        .attach(server, new ServerListener(bridge, owner.getEmail()));
+                }
+
+                // Remove unnecessary request
+                Allocation allocation = server.getPrimaryAllocation();
+
+                PteroServer pteroServer = new PteroServerImpl(
+                    bridge,
+                    applicationServer.getIdentifier(),
+                    applicationServer.getId(),
+                    Servers.ensureAddress(allocation),
+                    targetNode.getName(),
+                    name,
+                    applicationServer.getUUID()
+                );
+
+                bridge.getServerCache().put(pteroServer);
+                bridge.getOwnerIndex().track(account.getId(), pteroServer);
+                return pteroServer;
+            });
         });
     }
 
@@ -167,59 +226,64 @@ public class PteroFactoryImpl implements PteroFactory {
         @NotNull String password,
         @Nullable String email
     ) {
-        PteroLogger.debug("Creating user %s", username);
-
-        return CompletableFuture.supplyAsync(() -> {
-            boolean exists = false;
-            try {
-                exists = bridge.getApplication()
-                    .retrieveUsersByUsername(username, true)
-                    .timeout(5, TimeUnit.SECONDS)
-                    .execute()
-                    .size() > 0;
-            } catch (Exception ignored) {
-                throw new UserAlreadyExistsException();
-            }
+        PteroLogger.debug("Creating user {}", username);
 
-            if (exists) {
-                throw new UserAlreadyExistsException();
-            }
+        return bridge.getMetrics().time("PteroFactory.createUser", username, () -> {
+            return bridge.supplyAsync(() -> {
+                boolean exists = false;
+                try {
+                    exists = bridge.executeApplication(
+                        bridge.getApplication()
+                            .retrieveUsersByUsername(username, true)
+                    ).size() > 0;
+                } catch (OperationTimeoutException e) {
+                    throw e;
+                } catch (Exception ignored) {
+                    throw UserAlreadyExistsException.stackless();
+                }
 
-            return false;
-        }, bridge.getWorker()).thenApply(exists -> {
-            if (exists) {
-                throw new UserAlreadyExistsException();
-            }
+                if (exists) {
+                    throw UserAlreadyExistsException.stackless();
+                }
 
-            String fromShort = Users.fromShort(uuid);
-            Try<ApplicationUser> catching = Try.catching(() -> {
-                return bridge.getApplication()
-                    .getUserManager()
-                    .createUser()
-                    .setPassword(password)
-                    .setEmail(email == null ? String.format("%s@%s", username, "luxcube.net") : email)
-                    .setUserName(
-                        LETTERS_AND_NUMBERS.matcher(username)
-                            .replaceAll("")
-                            .toLowerCase()
-                    ).setFirstName(fromShort)
-                    .setLastName("'s Account")
-                    .timeout(10, TimeUnit.SECONDS)
-                    .execute(true);
-            });
+                return false;
+            }).thenApply(exists -> {
+                if (exists) {
+                    throw UserAlreadyExistsException.stackless();
+                }
 
-            catching.catching(PteroException.class, ALREADY_EXISTS_THROWN);
-
-            return catching.unwrap();
-        }).thenApply(applicationUser -> {
-            return new PteroUserImpl(
-                bridge,
-                applicationUser.getId(),
-                applicationUser.getUserName(),
-                applicationUser.getEmail(),
-                uuid,
-                password
-            );
+                String fromShort = Users.fromShort(uuid);
+                Try<ApplicationUser> catching = Try.catching(() -> {
+                    return bridge.executeApplication(
+                        bridge.getApplication()
+                            .getUserManager()
+                            .createUser()
+                            .setPassword(password)
+                            .setEmail(email == null ? String.format("%s@%s", username, "luxcube.net") : email)
+                            .setUserName(
+                                LETTERS_AND_NUMBERS.matcher(username)
+                                    .replaceAll("")
+                                    .toLowerCase()
+                            ).setFirstName(fromShort)
+                            .setLastName("'s Account")
+                    );
+                });
+
+                catching.catching(PteroException.class, ALREADY_EXISTS_THROWN);
+
+                return catching.unwrap();
+            }).thenApply(applicationUser -> {
+                bridge.getUserIndex().track(uuid, applicationUser.getId());
+
+                return new PteroUserImpl(
+                    bridge,
+                    applicationUser.getId(),
+                    applicationUser.getUserName(),
+                    applicationUser.getEmail(),
+                    uuid,
+                    password
+                );
+            });
         });
     }
 }
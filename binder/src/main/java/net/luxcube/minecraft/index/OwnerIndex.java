@@ -0,0 +1,259 @@
+package net.luxcube.minecraft.index;
+
+import com.mattmalec.pterodactyl4j.application.entities.ApplicationServer;
+import net.luxcube.minecraft.deadline.Deadline;
+import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.scan.InventoryScanner;
+import net.luxcube.minecraft.server.PteroServer;
+import net.luxcube.minecraft.util.Pair;
+import net.luxcube.minecraft.util.Servers;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
+import org.jetbrains.annotations.Blocking;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Indexes the panel's servers by their owner, so the servers of a user can be
+ * answered without downloading the whole panel.
+ * The index is built by a parallel inventory scan the first time it's needed, kept fresh
+ * by the binder's own creations and deletions, and rebuilt periodically.
+ * Creations and deletions made while a rebuild is scanning are replayed onto its result.
+ * While it's cold, {@link #getServers(String)} returns {@code null} and callers
+ * should ask the panel directly.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class OwnerIndex {
+
+    private final PteroBridgeVO bridge;
+
+    private volatile Map<String, Map<String, PteroServer>> servers = new ConcurrentHashMap<>();
+    private volatile Map<String, String> owners = new ConcurrentHashMap<>();
+
+    private volatile boolean warm, stale;
+    private CompletableFuture<Void> building;
+
+    // The changes made since the running rebuild started, null while none is running
+    @Nullable
+    private List<BiConsumer<Map<String, Map<String, PteroServer>>, Map<String, String>>> journal;
+
+    public OwnerIndex(@NotNull PteroBridgeVO bridge) {
+        this.bridge = bridge;
+    }
+
+    public boolean isEnabled() {
+        return !bridge.getOptions().getOwnerIndexRefresh().isZero()
+            && !bridge.getOptions().getOwnerIndexRefresh().isNegative();
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * @return If the index was seeded from the persisted inventory and wasn't rebuilt yet.
+     */
+    public boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * Fills the index with servers known from elsewhere, such as the persisted inventory,
+     * and serves them until the next rebuild replaces them.
+     *
+     * @param servers The servers keyed by their owner's internal id.
+     */
+    public synchronized void seed(@NotNull Map<String, List<PteroServer>> servers) {
+        Map<String, Map<String, PteroServer>> seeded = new ConcurrentHashMap<>();
+        Map<String, String> owners = new ConcurrentHashMap<>();
+
+        servers.forEach((ownerId, owned) -> {
+            for (PteroServer server : owned) {
+                owners.put(server.getIdentifier(), ownerId);
+                seeded.computeIfAbsent(ownerId, ignored -> new ConcurrentHashMap<>())
+                    .put(server.getIdentifier(), server);
+            }
+        });
+
+        this.servers = seeded;
+        this.owners = owners;
+        this.stale = true;
+        this.warm = true;
+    }
+
+    /**
+     * @return A copy of the indexed servers, keyed by their owner's internal id.
+     */
+    public @NotNull Map<String, List<PteroServer>> getEntries() {
+        Map<String, List<PteroServer>> entries = new HashMap<>();
+        servers.forEach((ownerId, owned) -> entries.put(ownerId, List.copyOf(owned.values())));
+
+        return entries;
+    }
+
+    /**
+     * @param ownerId The owner's internal id.
+     * @return The servers of the owner or {@code null} if the index is still cold.
+     */
+    public @Nullable List<PteroServer> getServers(@NotNull String ownerId) {
+        if (!warm) {
+            return null;
+        }
+
+        Map<String, PteroServer> owned = servers.get(ownerId);
+        if (owned == null) {
+            return List.of();
+        }
+
+        return List.copyOf(owned.values());
+    }
+
+    public synchronized void track(@NotNull String ownerId, @NotNull PteroServer server) {
+        put(servers, owners, ownerId, server);
+
+        if (journal != null) {
+            journal.add((servers, owners) -> put(servers, owners, ownerId, server));
+        }
+    }
+
+    public synchronized void untrack(@NotNull PteroServer server) {
+        delete(servers, owners, server.getIdentifier());
+
+        if (journal != null) {
+            journal.add((servers, owners) -> delete(servers, owners, server.getIdentifier()));
+        }
+    }
+
+    /**
+     * Schedules a full scan of the panel, unless one is already running.
+     *
+     * @return The future completed once the running scan finishes.
+     */
+    public synchronized CompletableFuture<Void> rebuild() {
+        if (!isEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (building != null && !building.isDone()) {
+            return building;
+        }
+
+        Map<String, Map<String, PteroServer>> servers = new ConcurrentHashMap<>();
+        Map<String, String> owners = new ConcurrentHashMap<>();
+
+        journal = new ArrayList<>();
+
+        // Shared by every caller, so the deadline of the one that started it must not cut it
+        CompletableFuture<Void> scan = Deadline.detached(() -> {
+            return bridge.getScanner()
+                .scan("owner index", this::fetch, page -> {
+                    for (Pair<String, PteroServer> pair : page) {
+                        PteroServer server = pair.second();
+
+                        owners.put(server.getIdentifier(), pair.first());
+                        servers.computeIfAbsent(pair.first(), ignored -> new ConcurrentHashMap<>())
+                            .put(server.getIdentifier(), server);
+                    }
+                });
+        });
+
+        return building = scan.whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                PteroLogger.debug("Couldn't build the owner index: {}", throwable.getMessage());
+                discardJournal();
+                return;
+            }
+
+            swap(servers, owners);
+        });
+    }
+
+    private synchronized void swap(
+        @NotNull Map<String, Map<String, PteroServer>> servers,
+        @NotNull Map<String, String> owners
+    ) {
+        // The scan may have read a page before a server was created or deleted by the binder
+        if (journal != null) {
+            journal.forEach(change -> change.accept(servers, owners));
+            journal = null;
+        }
+
+        this.servers = servers;
+        this.owners = owners;
+        this.warm = true;
+        this.stale = false;
+
+        PteroLogger.debug("Owner index built with {} servers", owners.size());
+    }
+
+    private synchronized void discardJournal() {
+        journal = null;
+    }
+
+    @Blocking
+    private @NotNull List<Pair<String, PteroServer>> fetch(int page) {
+        List<ApplicationServer> applicationServers = bridge.executeApplication(
+            bridge.getApplication()
+                .retrieveServers()
+                .skipTo(page)
+                .limit(InventoryScanner.PAGE_SIZE)
+        );
+
+        List<Pair<String, PteroServer>> mapped = new ArrayList<>(applicationServers.size());
+        for (ApplicationServer applicationServer : applicationServers) {
+            mapped.add(new Pair<>(
+                applicationServer.getOwnerId(),
+                Servers.toPteroServer(bridge, applicationServer)
+            ));
+        }
+
+        return mapped;
+    }
+
+    private static void put(
+        @NotNull Map<String, Map<String, PteroServer>> servers,
+        @NotNull Map<String, String> owners,
+        @NotNull String ownerId,
+        @NotNull PteroServer server
+    ) {
+        String previous = owners.put(server.getIdentifier(), ownerId);
+        if (previous != null && !previous.equals(ownerId)) {
+            remove(servers, previous, server.getIdentifier());
+        }
+
+        servers.computeIfAbsent(ownerId, ignored -> new ConcurrentHashMap<>())
+            .put(server.getIdentifier(), server);
+    }
+
+    private static void delete(
+        @NotNull Map<String, Map<String, PteroServer>> servers,
+        @NotNull Map<String, String> owners,
+        @NotNull String identifier
+    ) {
+        String ownerId = owners.remove(identifier);
+        if (ownerId != null) {
+            remove(servers, ownerId, identifier);
+        }
+    }
+
+    private static void remove(
+        @NotNull Map<String, Map<String, PteroServer>> servers,
+        @NotNull String ownerId,
+        @NotNull String identifier
+    ) {
+        servers.computeIfPresent(ownerId, (ignored, owned) -> {
+            owned.remove(identifier);
+            return owned.isEmpty() ? null : owned;
+        });
+    }
+
+}
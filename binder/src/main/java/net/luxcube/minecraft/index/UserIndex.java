@@ -0,0 +1,252 @@
+package net.luxcube.minecraft.index;
+
+import com.mattmalec.pterodactyl4j.application.entities.ApplicationUser;
+import net.luxcube.minecraft.deadline.Deadline;
+import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.scan.InventoryScanner;
+import net.luxcube.minecraft.util.Users;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Indexes the panel's users by the short UUID stored as their first name,
+ * so a UUID lookup is a hash probe instead of a scan over every account.
+ * The index is built the first time it's needed by a parallel inventory scan,
+ * kept fresh by the binder's own creations and deletions, and rebuilt periodically.
+ * A rebuild replays onto its result the accounts tracked or untracked while it was scanning.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class UserIndex {
+
+    private final PteroBridgeVO bridge;
+
+    private final Map<UUID, String> byUUID = new ConcurrentHashMap<>();
+
+    private volatile Map<String, Set<String>> byShort = new ConcurrentHashMap<>();
+    private volatile Map<String, String> shortById = new ConcurrentHashMap<>();
+
+    private volatile boolean warm, stale;
+    private CompletableFuture<Void> building;
+
+    // The changes made since the running rebuild started, null while none is running
+    @Nullable
+    private List<BiConsumer<Map<String, Set<String>>, Map<String, String>>> journal;
+
+    public UserIndex(@NotNull PteroBridgeVO bridge) {
+        this.bridge = bridge;
+    }
+
+    public boolean isEnabled() {
+        return !bridge.getOptions().getUserIndexRefresh().isZero()
+            && !bridge.getOptions().getUserIndexRefresh().isNegative();
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * @return If the index was seeded from the persisted inventory and wasn't rebuilt yet.
+     */
+    public boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * Fills the index with accounts known from elsewhere, such as the persisted inventory,
+     * and serves them until the next rebuild replaces them.
+     *
+     * @param accounts The short UUID of each account, keyed by the panel id.
+     */
+    public synchronized void seed(@NotNull Map<String, String> accounts) {
+        Map<String, Set<String>> byShort = new ConcurrentHashMap<>();
+        accounts.forEach((userId, fromShort) -> {
+            byShort.computeIfAbsent(fromShort, key -> ConcurrentHashMap.newKeySet())
+                .add(userId);
+        });
+
+        this.byShort = byShort;
+        this.shortById = new ConcurrentHashMap<>(accounts);
+        this.stale = true;
+        this.warm = true;
+    }
+
+    /**
+     * @return A copy of the short UUID of each account, keyed by the panel id.
+     */
+    public @NotNull Map<String, String> getEntries() {
+        return Map.copyOf(shortById);
+    }
+
+    /**
+     * Finds the panel id of the user, preferring an exact UUID match over the short prefix.
+     *
+     * @param uuid The Minecraft UUID of the user.
+     * @return The panel id or {@code null} if the index doesn't know any candidate.
+     */
+    public @Nullable String find(@NotNull UUID uuid) {
+        String userId = byUUID.get(uuid);
+        if (userId != null) {
+            return userId;
+        }
+
+        Set<String> candidates = byShort.get(Users.fromShort(uuid));
+        if (candidates == null || candidates.isEmpty()) {
+            return null;
+        }
+
+        return candidates.iterator().next();
+    }
+
+    public synchronized void track(@NotNull UUID uuid, @NotNull String userId) {
+        byUUID.put(uuid, userId);
+        track(Users.fromShort(uuid), userId);
+    }
+
+    /**
+     * Tracks an account seen on the panel, using the short UUID stored as its first name.
+     */
+    public synchronized void trackAccount(@NotNull String firstName, @NotNull String userId) {
+        String previous = shortById.get(userId);
+        String fromShort = shortOf(firstName);
+
+        if (previous != null && !previous.equals(fromShort)) {
+            untrack(userId);
+        }
+
+        track(fromShort, userId);
+    }
+
+    public synchronized void untrack(@NotNull String userId) {
+        byUUID.values().remove(userId);
+        remove(byShort, shortById, userId);
+
+        if (journal != null) {
+            journal.add((byShort, shortById) -> remove(byShort, shortById, userId));
+        }
+    }
+
+    /**
+     * Schedules a full scan of the users, unless one is already running.
+     *
+     * @return The future completed once the running scan finishes.
+     */
+    public synchronized CompletableFuture<Void> rebuild() {
+        if (!isEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (building != null && !building.isDone()) {
+            return building;
+        }
+
+        Map<String, Set<String>> byShort = new ConcurrentHashMap<>();
+        Map<String, String> shortById = new ConcurrentHashMap<>();
+
+        journal = new ArrayList<>();
+
+        // Shared by every caller, so the deadline of the one that started it must not cut it
+        CompletableFuture<Void> scan = Deadline.detached(() -> {
+            return bridge.getScanner()
+                .scan("user index", this::fetch, users -> {
+                    for (ApplicationUser user : users) {
+                        String fromShort = shortOf(user.getFirstName());
+
+                        shortById.put(user.getId(), fromShort);
+                        byShort.computeIfAbsent(fromShort, key -> ConcurrentHashMap.newKeySet())
+                            .add(user.getId());
+                    }
+                });
+        });
+
+        return building = scan.whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                PteroLogger.debug("Couldn't build the user index: {}", throwable.getMessage());
+                discardJournal();
+                return;
+            }
+
+            swap(byShort, shortById);
+        });
+    }
+
+    private synchronized void swap(@NotNull Map<String, Set<String>> byShort, @NotNull Map<String, String> shortById) {
+        // An account created or deleted by the binder may have been missed by the pages already read
+        if (journal != null) {
+            journal.forEach(change -> change.accept(byShort, shortById));
+            journal = null;
+        }
+
+        this.byShort = byShort;
+        this.shortById = shortById;
+        this.warm = true;
+        this.stale = false;
+
+        PteroLogger.debug("User index built with {} users", shortById.size());
+    }
+
+    private synchronized void discardJournal() {
+        journal = null;
+    }
+
+    private @NotNull List<ApplicationUser> fetch(int page) {
+        return bridge.executeApplication(
+            bridge.getApplication()
+                .retrieveUsers()
+                .skipTo(page)
+                .limit(InventoryScanner.PAGE_SIZE)
+        );
+    }
+
+    private void track(@NotNull String fromShort, @NotNull String userId) {
+        put(byShort, shortById, fromShort, userId);
+
+        if (journal != null) {
+            journal.add((byShort, shortById) -> put(byShort, shortById, fromShort, userId));
+        }
+    }
+
+    private static void put(
+        @NotNull Map<String, Set<String>> byShort,
+        @NotNull Map<String, String> shortById,
+        @NotNull String fromShort,
+        @NotNull String userId
+    ) {
+        shortById.put(userId, fromShort);
+        byShort.computeIfAbsent(fromShort, key -> ConcurrentHashMap.newKeySet())
+            .add(userId);
+    }
+
+    private static void remove(
+        @NotNull Map<String, Set<String>> byShort,
+        @NotNull Map<String, String> shortById,
+        @NotNull String userId
+    ) {
+        String fromShort = shortById.remove(userId);
+        if (fromShort == null) {
+            return;
+        }
+
+        byShort.computeIfPresent(fromShort, (ignored, ids) -> {
+            ids.remove(userId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static @NotNull String shortOf(@NotNull String firstName) {
+        return firstName.length() > 8 ? firstName.substring(0, 8) : firstName;
+    }
+
+}
@@ -48,7 +48,7 @@ public class ServerListener extends ClientSocketListenerAdapter {
                     .anyMatch(subuser -> subuser.getEmail().equals(email));
 
                 if (exists) {
-                    PteroLogger.debug("User %s is already a subuser", email);
+                    PteroLogger.debug("User {} is already a subuser", email);
                     return;
                 }
 
@@ -73,18 +73,20 @@ public class ServerListener extends ClientSocketListenerAdapter {
                     .setPermissions(USER_PERMISSIONS)
                     .timeout(10, TimeUnit.SECONDS)
                     .executeAsync(success -> {
-                        PteroLogger.debug("User %s was added to server %s", email, clientServer.getIdentifier());
+                        PteroLogger.debug("User {} was added to server {}", email, clientServer.getIdentifier());
                     }, throwable -> {
                         PteroLogger.severe(
-                            "Failed to add the user " + email + " to the server: " + clientServer.getIdentifier(),
+                            "Failed to add the user {} to the server: {}",
+                            email,
+                            clientServer.getIdentifier(),
                             throwable
                         );
                     });
             }, throwable -> {
-                PteroLogger.severe("Failed to retrieve server by identifier: " + clientServer.getIdentifier(), throwable);
+                PteroLogger.severe("Failed to retrieve server by identifier: {}", clientServer.getIdentifier(), throwable);
             });
 
-        clientServer.getWebSocketBuilder()
-            .removeEventListeners(this);
+        bridge.getSocketManager()
+            .detach(clientServer.getIdentifier(), this);
     }
 }
@@ -0,0 +1,169 @@
+package net.luxcube.minecraft.logger;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded ring buffer of log records, written to SLF4J by a single background thread.
+ * Producers claim a slot with a CAS and never wait: while the buffer is full, records are dropped
+ * and counted, and the count is logged once there's room again.
+ * <p>
+ * Arguments are formatted by the background thread, so they should not be mutated after logging,
+ * and the backend reports that thread instead of the one that logged.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+class AsyncLogSink {
+
+    private static final long IDLE_PARK = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AtomicReferenceArray<LogRecord> slots;
+    private final int capacity;
+    private final int mask;
+
+    /**
+     * The next sequence claimed by a producer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * The next sequence written by the background thread, only advanced by it.
+     */
+    private volatile long tail;
+
+    private final LongAdder dropped = new LongAdder();
+    private long reportedDrops;
+
+    private final Thread thread;
+
+    private volatile boolean waiting;
+    private volatile boolean running = true;
+
+    AsyncLogSink(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+
+        this.capacity = size;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+
+        this.thread = new Thread(this::drain, "PteroMC-Logger");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return If the sink took the record, false once it's closed.
+     */
+    boolean offer(@NotNull Level level, @NotNull String message, @NotNull Object[] arguments) {
+        if (!running) {
+            return false;
+        }
+
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= capacity) {
+                dropped.increment();
+                return true;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        slots.set((int) sequence & mask, new LogRecord(level, message, arguments));
+
+        if (waiting) {
+            LockSupport.unpark(thread);
+        }
+
+        return true;
+    }
+
+    long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops taking records and waits for the pending ones to be written.
+     */
+    void close() {
+        running = false;
+        LockSupport.unpark(thread);
+
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (@NotNull InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        long sequence = tail;
+        while (running || sequence < head.get()) {
+            int index = (int) sequence & mask;
+
+            LogRecord record = slots.get(index);
+            if (record == null) {
+                if (sequence == head.get()) {
+                    idle(sequence);
+                } else {
+                    // Claimed, but the producer hasn't stored it yet
+                    Thread.onSpinWait();
+                }
+
+                continue;
+            }
+
+            slots.set(index, null);
+            tail = ++sequence;
+
+            try {
+                PteroLogger.write(record.level(), record.message(), record.arguments());
+            } catch (@NotNull RuntimeException ignored) {
+                // A broken backend must not stop the sink
+            }
+
+            reportDrops();
+        }
+    }
+
+    private void idle(long sequence) {
+        waiting = true;
+        if (running && sequence == head.get()) {
+            LockSupport.parkNanos(this, IDLE_PARK);
+        }
+
+        waiting = false;
+    }
+
+    private void reportDrops() {
+        long drops = dropped.sum();
+        if (drops == reportedDrops) {
+            return;
+        }
+
+        PteroLogger.write(
+            Level.WARN,
+            "The log buffer was full, {} records were dropped",
+            new Object[]{drops - reportedDrops}
+        );
+
+        reportedDrops = drops;
+    }
+
+    private record LogRecord(@NotNull Level level, @NotNull String message, @NotNull Object[] arguments) {
+    }
+
+}
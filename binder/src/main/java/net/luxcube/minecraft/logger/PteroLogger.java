@@ -2,8 +2,19 @@ package net.luxcube.minecraft.logger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 
 /**
+ * The logging facade of the bridge, on top of SLF4J.
+ * Messages use SLF4J's {@code {}} placeholders and are only formatted once the level is enabled;
+ * up to three arguments are taken without a varargs array, so a disabled call allocates nothing
+ * as long as its arguments are already there. Primitives are still boxed by the caller,
+ * guard the call with {@link #isDebugEnabled()} when that matters.
+ * <p>
+ * A {@link Throwable} given as the last argument is logged with its stack trace.
+ * Once {@link #enableAsync(int) enabled}, records are handed to an {@link AsyncLogSink}
+ * instead of being written by the calling thread.
+ *
  * @author Luiz O. F. Corrêa
  * @since 02/11/2022
  **/
@@ -11,33 +22,184 @@ public class PteroLogger {
 
     private static final Logger LOGGER = LoggerFactory.getLogger("PteroBridge");
 
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private static final Object SINK_LOCK = new Object();
+
+    private static volatile AsyncLogSink sink;
+    private static int sinkUsers;
+
+    public static boolean isDebugEnabled() {
+        return LOGGER.isDebugEnabled();
+    }
+
     public static void info(String message) {
-        LOGGER.info(message);
+        if (LOGGER.isInfoEnabled()) {
+            log(Level.INFO, message, NO_ARGUMENTS);
+        }
+    }
+
+    public static void info(String message, Object argument) {
+        if (LOGGER.isInfoEnabled()) {
+            log(Level.INFO, message, new Object[]{argument});
+        }
+    }
+
+    public static void info(String message, Object first, Object second) {
+        if (LOGGER.isInfoEnabled()) {
+            log(Level.INFO, message, new Object[]{first, second});
+        }
+    }
+
+    public static void info(String message, Object first, Object second, Object third) {
+        if (LOGGER.isInfoEnabled()) {
+            log(Level.INFO, message, new Object[]{first, second, third});
+        }
+    }
+
+    public static void info(String message, Object... arguments) {
+        if (LOGGER.isInfoEnabled()) {
+            log(Level.INFO, message, arguments);
+        }
     }
 
     public static void warning(String message) {
-        LOGGER.warn(message);
+        if (LOGGER.isWarnEnabled()) {
+            log(Level.WARN, message, NO_ARGUMENTS);
+        }
+    }
+
+    public static void warning(String message, Object argument) {
+        if (LOGGER.isWarnEnabled()) {
+            log(Level.WARN, message, new Object[]{argument});
+        }
+    }
+
+    public static void warning(String message, Object first, Object second) {
+        if (LOGGER.isWarnEnabled()) {
+            log(Level.WARN, message, new Object[]{first, second});
+        }
+    }
+
+    public static void warning(String message, Object first, Object second, Object third) {
+        if (LOGGER.isWarnEnabled()) {
+            log(Level.WARN, message, new Object[]{first, second, third});
+        }
+    }
+
+    public static void warning(String message, Object... arguments) {
+        if (LOGGER.isWarnEnabled()) {
+            log(Level.WARN, message, arguments);
+        }
     }
 
     public static void severe(String message) {
-        LOGGER.error(message);
+        if (LOGGER.isErrorEnabled()) {
+            log(Level.ERROR, message, NO_ARGUMENTS);
+        }
     }
 
-    public static void severe(String message, Object... args) {
-        LOGGER.error(message, args);
+    public static void severe(String message, Object argument) {
+        if (LOGGER.isErrorEnabled()) {
+            log(Level.ERROR, message, new Object[]{argument});
+        }
+    }
+
+    public static void severe(String message, Object first, Object second) {
+        if (LOGGER.isErrorEnabled()) {
+            log(Level.ERROR, message, new Object[]{first, second});
+        }
+    }
+
+    public static void severe(String message, Object first, Object second, Object third) {
+        if (LOGGER.isErrorEnabled()) {
+            log(Level.ERROR, message, new Object[]{first, second, third});
+        }
+    }
+
+    public static void severe(String message, Object... arguments) {
+        if (LOGGER.isErrorEnabled()) {
+            log(Level.ERROR, message, arguments);
+        }
     }
 
     public static void debug(String message) {
-        LOGGER.debug(message);
+        if (LOGGER.isDebugEnabled()) {
+            log(Level.DEBUG, message, NO_ARGUMENTS);
+        }
+    }
+
+    public static void debug(String message, Object argument) {
+        if (LOGGER.isDebugEnabled()) {
+            log(Level.DEBUG, message, new Object[]{argument});
+        }
+    }
+
+    public static void debug(String message, Object first, Object second) {
+        if (LOGGER.isDebugEnabled()) {
+            log(Level.DEBUG, message, new Object[]{first, second});
+        }
+    }
+
+    public static void debug(String message, Object first, Object second, Object third) {
+        if (LOGGER.isDebugEnabled()) {
+            log(Level.DEBUG, message, new Object[]{first, second, third});
+        }
+    }
+
+    public static void debug(String message, Object... arguments) {
+        if (LOGGER.isDebugEnabled()) {
+            log(Level.DEBUG, message, arguments);
+        }
+    }
+
+    /**
+     * Starts handing the records to a background thread through a ring buffer,
+     * so logging never blocks the calling thread. Records are dropped while the buffer is full.
+     * Every call must be paired with {@link #disableAsync()}, the sink stops with the last one.
+     *
+     * @param capacity The records the buffer holds, rounded up to a power of two.
+     */
+    public static void enableAsync(int capacity) {
+        synchronized (SINK_LOCK) {
+            if (sinkUsers++ == 0) {
+                sink = new AsyncLogSink(capacity);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending records and stops the sink once nobody else uses it.
+     */
+    public static void disableAsync() {
+        AsyncLogSink stopping;
+        synchronized (SINK_LOCK) {
+            if (sinkUsers == 0 || --sinkUsers > 0) {
+                return;
+            }
+
+            stopping = sink;
+            sink = null;
+        }
+
+        stopping.close();
     }
 
-    public static void debug(String message, Object... args) {
-        LOGGER.debug(String.format(message, args));
+    private static void log(Level level, String message, Object[] arguments) {
+        AsyncLogSink current = sink;
+        if (current == null || !current.offer(level, message, arguments)) {
+            write(level, message, arguments);
+        }
     }
 
-    public static void severe(String message, Throwable throwable) {
-        LOGGER.error(message);
-        throwable.printStackTrace();
+    static void write(Level level, String message, Object[] arguments) {
+        switch (level) {
+            case ERROR -> LOGGER.error(message, arguments);
+            case WARN -> LOGGER.warn(message, arguments);
+            case INFO -> LOGGER.info(message, arguments);
+            case DEBUG -> LOGGER.debug(message, arguments);
+            case TRACE -> LOGGER.trace(message, arguments);
+        }
     }
 
 }
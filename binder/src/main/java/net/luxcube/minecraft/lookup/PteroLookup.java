@@ -0,0 +1,149 @@
+package net.luxcube.minecraft.lookup;
+
+import com.mattmalec.pterodactyl4j.application.entities.ApplicationServer;
+import com.mattmalec.pterodactyl4j.application.entities.ApplicationUser;
+import com.mattmalec.pterodactyl4j.client.entities.ClientServer;
+import com.mattmalec.pterodactyl4j.exceptions.NotFoundException;
+import net.luxcube.minecraft.exception.ServerDoesntExistException;
+import net.luxcube.minecraft.exception.UserDoesntExistException;
+import net.luxcube.minecraft.server.snapshot.ServerSnapshot;
+import net.luxcube.minecraft.server.snapshot.SnapshotRequest;
+import net.luxcube.minecraft.util.SingleFlight;
+import net.luxcube.minecraft.util.Try;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Shared reads of the panel.
+ * Identical lookups issued at the same time share a single in-flight request,
+ * and all callers complete from its result. The request doesn't belong to any of
+ * them, so it runs without their deadline and each caller waits for it under its own.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class PteroLookup {
+
+    private final PteroBridgeVO bridge;
+
+    private final SingleFlight<String, ClientServer> clientServers = new SingleFlight<>();
+    private final SingleFlight<String, ApplicationServer> applicationServers = new SingleFlight<>();
+    private final SingleFlight<String, ServerSnapshot> snapshots = new SingleFlight<>();
+
+    private final SingleFlight<String, Optional<ApplicationUser>> usersByUsername = new SingleFlight<>();
+    private final SingleFlight<String, Optional<ApplicationUser>> usersByEmail = new SingleFlight<>();
+    private final SingleFlight<String, ApplicationUser> usersById = new SingleFlight<>();
+
+    public PteroLookup(@NotNull PteroBridgeVO bridge) {
+        this.bridge = bridge;
+    }
+
+    public CompletableFuture<ClientServer> retrieveClientServer(@NotNull String identifier) {
+        return shared(clientServers, identifier, () -> {
+            Try<ClientServer> catching = Try.catching(() -> {
+                return bridge.executeClient(
+                    bridge.getClient()
+                        .retrieveServerByIdentifier(identifier)
+                );
+            });
+
+            catching.catching(NotFoundException.class, e -> {
+                throw ServerDoesntExistException.stackless(identifier);
+            });
+
+            return catching.unwrap();
+        });
+    }
+
+    public CompletableFuture<ApplicationServer> retrieveApplicationServer(@NotNull String id) {
+        return shared(applicationServers, id, () -> {
+            Try<ApplicationServer> catching = Try.catching(() -> {
+                return bridge.executeApplication(
+                    bridge.getApplication()
+                        .retrieveServerById(id)
+                );
+            });
+
+            catching.catching(NotFoundException.class, e -> {
+                throw ServerDoesntExistException.stackless(id);
+            });
+
+            return catching.unwrap();
+        });
+    }
+
+    public CompletableFuture<ServerSnapshot> retrieveSnapshot(@NotNull String identifier) {
+        return shared(snapshots, identifier, () -> {
+            return SnapshotRequest.execute(bridge, identifier);
+        });
+    }
+
+    public CompletableFuture<Optional<ApplicationUser>> retrieveUserByUsername(@NotNull String username) {
+        return shared(usersByUsername, username, () -> {
+            Try<Optional<ApplicationUser>> catching = Try.catching(() -> {
+                return bridge.executeApplication(
+                    bridge.getApplication()
+                        .retrieveUsersByUsername(username, true)
+                ).stream()
+                    .findFirst();
+            });
+
+            catching.catching(NotFoundException.class, e -> {
+                throw UserDoesntExistException.stackless(username);
+            });
+
+            return catching.unwrap();
+        });
+    }
+
+    public CompletableFuture<Optional<ApplicationUser>> retrieveUserByEmail(@NotNull String email) {
+        return shared(usersByEmail, email, () -> {
+            Try<Optional<ApplicationUser>> catching = Try.catching(() -> {
+                return bridge.executeApplication(
+                    bridge.getApplication()
+                        .retrieveUsersByEmail(email, true)
+                ).stream()
+                    .findFirst();
+            });
+
+            catching.catching(NotFoundException.class, e -> {
+                throw UserDoesntExistException.stackless(email);
+            });
+
+            return catching.unwrap();
+        });
+    }
+
+    public CompletableFuture<ApplicationUser> retrieveUserById(@NotNull String id) {
+        return shared(usersById, id, () -> {
+            Try<ApplicationUser> catching = Try.catching(() -> {
+                return bridge.executeApplication(
+                    bridge.getApplication()
+                        .retrieveUserById(id)
+                );
+            });
+
+            catching.catching(NotFoundException.class, e -> {
+                throw UserDoesntExistException.stackless(id);
+            });
+
+            return catching.unwrap();
+        });
+    }
+
+    private <K, V> CompletableFuture<V> shared(
+        @NotNull SingleFlight<K, V> flight,
+        @NotNull K key,
+        @NotNull Supplier<V> load
+    ) {
+        // Started by the first caller, but a short deadline of its own must not fail the others
+        CompletableFuture<V> future = flight.execute(key, () -> bridge.supplyShared(load));
+
+        return bridge.joinShared(future);
+    }
+
+}
@@ -0,0 +1,216 @@
+package net.luxcube.minecraft.metrics;
+
+import net.luxcube.minecraft.deadline.Deadlines;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Records the metrics of the bridge's operations.
+ * While an operation is being called, and while its tasks run in the worker, its call is kept as the
+ * {@link #current() current call} of the thread, so the worker can attribute its queue wait
+ * and execution time to it and the HTTP clients can count the requests sent on its behalf.
+ * <p>
+ * When JFR events are enabled, calls made while a recording wants them are traced and
+ * emitted as {@link PanelOperationEvent}s. Otherwise no JFR class is even loaded.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class BridgeMetrics implements PteroMetrics {
+
+    private static final ThreadLocal<OperationCall> CURRENT = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final boolean events;
+
+    @Nullable
+    private final Deadlines deadlines;
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private final Set<Consumer<OperationStats>> listeners = new CopyOnWriteArraySet<>();
+
+    public BridgeMetrics(boolean enabled) {
+        this(enabled, false);
+    }
+
+    public BridgeMetrics(boolean enabled, boolean events) {
+        this(enabled, events, null);
+    }
+
+    public BridgeMetrics(boolean enabled, boolean events, @Nullable Deadlines deadlines) {
+        this.enabled = enabled;
+        this.events = enabled && events;
+        this.deadlines = deadlines;
+    }
+
+    /**
+     * @return The call being run by the current thread, if any.
+     */
+    public static @Nullable OperationCall current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes the call the current one of the thread.
+     *
+     * @return The previous call, to be handed back to {@link #restore(OperationCall)}.
+     */
+    public static @Nullable OperationCall enter(@Nullable OperationCall call) {
+        OperationCall previous = CURRENT.get();
+        CURRENT.set(call);
+
+        return previous;
+    }
+
+    /**
+     * Tells the current call, if traced, that it was answered without asking the panel.
+     */
+    public static void recordCacheHit() {
+        OperationCall call = CURRENT.get();
+        if (call != null) {
+            call.recordCacheHit();
+        }
+    }
+
+    public static void restore(@Nullable OperationCall previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Calls the supplier outside of the current call, for work that doesn't belong to it alone.
+     */
+    public static <T> T detached(@NotNull Supplier<T> supplier) {
+        OperationCall previous = enter(null);
+        try {
+            return supplier.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Calls the operation, recording its latency until the returned future completes.
+     *
+     * @param name The name of the operation, such as {@code PteroServer.start}.
+     * @param call The call of the operation.
+     * @return The future of the call, untouched.
+     */
+    public <T> CompletableFuture<T> time(@NotNull String name, @NotNull Supplier<CompletableFuture<T>> call) {
+        return time(name, null, call);
+    }
+
+    /**
+     * Calls the operation under its deadline, recording its latency until the returned future completes.
+     *
+     * @param name       The name of the operation, such as {@code PteroServer.start}.
+     * @param identifier The server or user the operation is called for, only kept by JFR events.
+     * @param call       The call of the operation.
+     * @return The future of the call, untouched.
+     */
+    public <T> CompletableFuture<T> time(
+        @NotNull String name,
+        @Nullable String identifier,
+        @NotNull Supplier<CompletableFuture<T>> call
+    ) {
+        if (!enabled) {
+            return bound(call);
+        }
+
+        OperationStats stats = operation(name);
+        OperationCall operationCall = events && PanelEvents.OPERATION.isEnabled()
+            ? new OperationCall(stats, OperationCall.trace(name, identifier))
+            : stats.getUntracedCall();
+
+        OperationCall previous = enter(operationCall);
+
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = bound(call);
+        } catch (@NotNull RuntimeException e) {
+            stats.recordCall(System.nanoTime() - start, false);
+            operationCall.end(e);
+            throw e;
+        } finally {
+            restore(previous);
+        }
+
+        future.whenComplete((ignored, throwable) -> {
+            stats.recordCall(System.nanoTime() - start, throwable == null);
+            operationCall.end(throwable);
+        });
+
+        return future;
+    }
+
+    private <T> CompletableFuture<T> bound(@NotNull Supplier<CompletableFuture<T>> call) {
+        return deadlines == null ? call.get() : deadlines.within(call);
+    }
+
+    /**
+     * Registers a listener called once for every operation recorded for the first time,
+     * so exporters can publish operations as they appear.
+     */
+    public void registerListener(@NotNull Consumer<OperationStats> listener) {
+        listeners.add(listener);
+    }
+
+    public void unregisterListener(@NotNull Consumer<OperationStats> listener) {
+        listeners.remove(listener);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isEventsEnabled() {
+        return events;
+    }
+
+    @Override
+    public @NotNull Map<String, OperationMetrics> getOperations() {
+        return Map.copyOf(operations);
+    }
+
+    @Override
+    public @Nullable OperationMetrics getOperation(@NotNull String name) {
+        return operations.get(name);
+    }
+
+    @Override
+    public void reset() {
+        operations.values().forEach(OperationStats::reset);
+    }
+
+    private @NotNull OperationStats operation(@NotNull String name) {
+        OperationStats stats = operations.get(name);
+        if (stats != null) {
+            return stats;
+        }
+
+        OperationStats created = new OperationStats(name);
+        stats = operations.putIfAbsent(name, created);
+        if (stats != null) {
+            return stats;
+        }
+
+        for (Consumer<OperationStats> listener : listeners) {
+            listener.accept(created);
+        }
+
+        return created;
+    }
+
+}
@@ -0,0 +1,94 @@
+package net.luxcube.minecraft.metrics;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Counts the requests sent to the panel against the operation they're tagged with and,
+ * when JFR events are enabled, records every request as a {@link PanelRequestEvent}.
+ * <p>
+ * Interceptors run on the threads of the HTTP client, so the operation travels as the
+ * {@link OperationCall} tag of the request. Pterodactyl4J builds its requests by itself,
+ * so its actions are counted by {@link net.luxcube.minecraft.deadline.Deadlines} instead.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class HttpCallInterceptor implements Interceptor {
+
+    static final int TOO_MANY_REQUESTS = 429;
+
+    private final boolean events;
+
+    public HttpCallInterceptor() {
+        this(false);
+    }
+
+    public HttpCallInterceptor(boolean events) {
+        this.events = events;
+    }
+
+    /**
+     * Tags the request with the operation run by the current thread, if any.
+     */
+    public static @NotNull Request.Builder tag(@NotNull Request.Builder builder) {
+        return builder.tag(OperationCall.class, BridgeMetrics.current());
+    }
+
+    @Override
+    public @NotNull Response intercept(@NotNull Chain chain) throws IOException {
+        OperationCall call = chain.request().tag(OperationCall.class);
+        if (call != null) {
+            call.recordHttpCall();
+        }
+
+        boolean traced = call != null && call.isTraced();
+        boolean recorded = events && PanelEvents.REQUEST.isEnabled();
+        if (!traced && !recorded) {
+            return chain.proceed(chain.request());
+        }
+
+        Request request = chain.request();
+        String endpoint = request.url().encodedPath();
+
+        PanelRequestEvent event = recorded ? new PanelRequestEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        int status = 0;
+        IOException failure = null;
+        try {
+            Response response = chain.proceed(request);
+            status = response.code();
+
+            return response;
+        } catch (@NotNull IOException e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (traced) {
+                call.recordResponse(request.method() + " " + endpoint, status);
+            }
+
+            if (event != null) {
+                event.end();
+
+                if (event.shouldCommit()) {
+                    event.operation = call == null ? null : call.getStats().getName();
+                    event.method = request.method();
+                    event.endpoint = endpoint;
+                    event.status = status;
+                    event.rateLimited = status == TOO_MANY_REQUESTS;
+                    event.error = failure == null ? null : failure.getClass().getName();
+                    event.commit();
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+package net.luxcube.minecraft.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A call of an operation, carried by the threads working on it.
+ * Only the calls recorded by JFR are traced; the others share the untraced call of their
+ * operation, so nothing is allocated for them.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class OperationCall {
+
+    private final OperationStats stats;
+
+    @Nullable
+    private final Trace trace;
+
+    OperationCall(@NotNull OperationStats stats, @Nullable Trace trace) {
+        this.stats = stats;
+        this.trace = trace;
+    }
+
+    public @NotNull OperationStats getStats() {
+        return stats;
+    }
+
+    public boolean isTraced() {
+        return trace != null;
+    }
+
+    /**
+     * Called once a task of the call is accepted by the worker. The task usually completes the
+     * future of the call before its time is recorded, so the event waits for it.
+     */
+    public void taskQueued() {
+        if (trace != null) {
+            trace.pending.incrementAndGet();
+        }
+    }
+
+    public void taskRejected() {
+        if (trace != null && trace.pending.decrementAndGet() == 0 && trace.ended) {
+            commit();
+        }
+    }
+
+    public void recordTask(long waitNanos, long executionNanos) {
+        stats.recordTask(waitNanos, executionNanos);
+
+        if (trace != null) {
+            trace.queueWait.add(waitNanos);
+            trace.execution.add(executionNanos);
+
+            if (trace.pending.decrementAndGet() == 0 && trace.ended) {
+                commit();
+            }
+        }
+    }
+
+    public void recordHttpCall() {
+        stats.recordHttpCall();
+
+        if (trace != null) {
+            trace.requests.incrementAndGet();
+        }
+    }
+
+    /**
+     * Only called for traced calls, since the endpoint is built for it.
+     */
+    void recordResponse(@NotNull String endpoint, int status) {
+        if (trace == null) {
+            return;
+        }
+
+        trace.endpoint = endpoint;
+        trace.status = status;
+
+        if (status == HttpCallInterceptor.TOO_MANY_REQUESTS) {
+            trace.retries.incrementAndGet();
+        }
+    }
+
+    void recordCacheHit() {
+        if (trace != null) {
+            trace.cacheHit = true;
+        }
+    }
+
+    void end(@Nullable Throwable throwable) {
+        if (trace == null) {
+            return;
+        }
+
+        trace.event.end();
+        trace.failure = throwable;
+        trace.ended = true;
+
+        if (trace.pending.get() == 0) {
+            commit();
+        }
+    }
+
+    private void commit() {
+        PanelOperationEvent event = trace.event;
+        if (!trace.committed.compareAndSet(false, true) || !event.shouldCommit()) {
+            return;
+        }
+
+        Throwable throwable = trace.failure;
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+
+        event.endpoint = trace.endpoint;
+        event.status = trace.status;
+        event.requests = trace.requests.get();
+        event.retries = trace.retries.get();
+        event.queueWait = trace.queueWait.sum();
+        event.execution = trace.execution.sum();
+        event.cacheHit = trace.cacheHit;
+        event.success = throwable == null;
+        event.error = throwable == null ? null : throwable.getClass().getName();
+
+        event.commit();
+    }
+
+    static @NotNull Trace trace(@NotNull String operation, @Nullable String identifier) {
+        PanelOperationEvent event = new PanelOperationEvent();
+        event.operation = operation;
+        event.identifier = identifier;
+        event.caller = Thread.currentThread();
+        event.begin();
+
+        return new Trace(event);
+    }
+
+    static class Trace {
+
+        private final PanelOperationEvent event;
+
+        private final LongAdder queueWait = new LongAdder();
+        private final LongAdder execution = new LongAdder();
+
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicInteger retries = new AtomicInteger();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private final AtomicBoolean committed = new AtomicBoolean();
+
+        private volatile String endpoint;
+        private volatile int status;
+        private volatile boolean cacheHit;
+
+        private volatile boolean ended;
+        private volatile Throwable failure;
+
+        private Trace(@NotNull PanelOperationEvent event) {
+            this.event = event;
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+package net.luxcube.minecraft.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics recorded for a single operation.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class OperationStats implements OperationMetrics {
+
+    private final String name;
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram execution = new LatencyHistogram();
+
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder httpCalls = new LongAdder();
+
+    private volatile long since = System.nanoTime();
+
+    private final OperationCall untraced = new OperationCall(this, null);
+
+    public OperationStats(@NotNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return The call shared by every call of the operation that isn't traced.
+     */
+    public @NotNull OperationCall getUntracedCall() {
+        return untraced;
+    }
+
+    public void recordCall(long nanos, boolean success) {
+        latency.record(nanos);
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    public void recordTask(long waitNanos, long executionNanos) {
+        queueWait.record(waitNanos);
+        execution.record(executionNanos);
+    }
+
+    public void recordHttpCall() {
+        httpCalls.increment();
+    }
+
+    public void reset() {
+        latency.reset();
+        queueWait.reset();
+        execution.reset();
+        errors.reset();
+        httpCalls.reset();
+
+        since = System.nanoTime();
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return name;
+    }
+
+    @Override
+    public long getCalls() {
+        return latency.getCount();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getHttpCalls() {
+        return httpCalls.sum();
+    }
+
+    @Override
+    public double getThroughput() {
+        double seconds = (System.nanoTime() - since) / 1_000_000_000D;
+        return seconds <= 0 ? 0 : getCalls() / seconds;
+    }
+
+    @Override
+    public @NotNull Duration getLatency(double percentile) {
+        return Duration.ofNanos(latency.getPercentile(percentile));
+    }
+
+    @Override
+    public @NotNull Duration getMeanLatency() {
+        return Duration.ofNanos(latency.getMean());
+    }
+
+    @Override
+    public @NotNull Duration getMaxLatency() {
+        return Duration.ofNanos(latency.getMax());
+    }
+
+    @Override
+    public @NotNull Duration getQueueWait(double percentile) {
+        return Duration.ofNanos(queueWait.getPercentile(percentile));
+    }
+
+    @Override
+    public @NotNull Duration getExecution(double percentile) {
+        return Duration.ofNanos(execution.getPercentile(percentile));
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s: %d calls, %d errors, p50 %d ms, p99 %d ms, p999 %d ms, %.2f HTTP calls per call",
+            name,
+            getCalls(),
+            getErrors(),
+            getP50().toMillis(),
+            getP99().toMillis(),
+            getP999().toMillis(),
+            getHttpCallsPerCall()
+        );
+    }
+
+}
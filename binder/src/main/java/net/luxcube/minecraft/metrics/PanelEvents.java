@@ -0,0 +1,20 @@
+package net.luxcube.minecraft.metrics;
+
+import jdk.jfr.EventType;
+
+/**
+ * Holds the types of the JFR events of the bridge, so checking whether a recording
+ * wants them is a plain field read. Only loaded once JFR events are enabled in the options.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+final class PanelEvents {
+
+    static final EventType OPERATION = EventType.getEventType(PanelOperationEvent.class);
+    static final EventType REQUEST = EventType.getEventType(PanelRequestEvent.class);
+
+    private PanelEvents() {
+    }
+
+}
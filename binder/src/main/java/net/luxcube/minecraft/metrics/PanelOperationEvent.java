@@ -0,0 +1,70 @@
+package net.luxcube.minecraft.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Recorded by JFR for every call of a bridge operation, from the caller until its future completes.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+@Name("net.luxcube.minecraft.PanelOperation")
+@Label("Panel Operation")
+@Category({"Pterodactyl", "Bridge"})
+@Description("A call of a bridge operation, from the caller until its future completes")
+@StackTrace(false)
+public class PanelOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Identifier")
+    @Description("The server or user the operation was called for, when there's one")
+    String identifier;
+
+    @Label("Caller")
+    @Description("The thread that called the operation")
+    Thread caller;
+
+    @Label("Endpoint")
+    @Description("The last endpoint requested by the operation")
+    String endpoint;
+
+    @Label("HTTP Status")
+    @Description("The status of the last response, zero when the panel wasn't requested")
+    int status;
+
+    @Label("HTTP Requests")
+    int requests;
+
+    @Label("Retries")
+    @Description("Requests answered with 429 and sent again once the rate limit allowed")
+    int retries;
+
+    @Label("Queue Wait")
+    @Description("Time the tasks of the operation waited for the worker")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueWait;
+
+    @Label("Execution")
+    @Description("Time the tasks of the operation ran in the worker")
+    @Timespan(Timespan.NANOSECONDS)
+    long execution;
+
+    @Label("Cache Hit")
+    @Description("If the operation was answered from the caches or indexes of the bridge")
+    boolean cacheHit;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Error")
+    String error;
+
+}
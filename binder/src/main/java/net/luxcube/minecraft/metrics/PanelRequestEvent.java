@@ -0,0 +1,44 @@
+package net.luxcube.minecraft.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Recorded by JFR for every HTTP request sent to the panel, including the wait for the rate limit.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+@Name("net.luxcube.minecraft.PanelRequest")
+@Label("Panel Request")
+@Category({"Pterodactyl", "Bridge"})
+@Description("An HTTP request sent to the panel, including the wait for the rate limit")
+@StackTrace(false)
+public class PanelRequestEvent extends Event {
+
+    @Label("Operation")
+    @Description("The operation that sent the request, if any")
+    String operation;
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("HTTP Status")
+    @Description("The status of the response, zero when no response was received")
+    int status;
+
+    @Label("Rate Limited")
+    @Description("If the panel answered with 429")
+    boolean rateLimited;
+
+    @Label("Error")
+    String error;
+
+}
@@ -0,0 +1,29 @@
+package net.luxcube.minecraft.metrics.export;
+
+/**
+ * The statistics of a bridge cache, as seen through JMX.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public interface CacheMXBean {
+
+    String getName();
+
+    int getSize();
+
+    long getHits();
+
+    long getMisses();
+
+    long getEvictions();
+
+    /**
+     * @return The fraction of lookups answered by the cache, between 0 and 1.
+     */
+    default double getHitRatio() {
+        long lookups = getHits() + getMisses();
+        return lookups == 0 ? 0 : (double) getHits() / lookups;
+    }
+
+}
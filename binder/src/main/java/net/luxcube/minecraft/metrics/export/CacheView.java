@@ -0,0 +1,79 @@
+package net.luxcube.minecraft.metrics.export;
+
+import net.luxcube.minecraft.cache.NodeCache;
+import net.luxcube.minecraft.cache.ServerCache;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * A read-only view of a bridge cache, shared by the JMX and Prometheus exporters.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class CacheView implements CacheMXBean {
+
+    private final String name;
+
+    private final IntSupplier size;
+    private final LongSupplier hits, misses, evictions;
+
+    private CacheView(
+        @NotNull String name,
+        @NotNull IntSupplier size,
+        @NotNull LongSupplier hits,
+        @NotNull LongSupplier misses,
+        @NotNull LongSupplier evictions
+    ) {
+        this.name = name;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    public static @NotNull List<CacheView> of(@NotNull PteroBridgeVO bridge) {
+        return List.of(of(bridge.getServerCache()), of(bridge.getNodeCache()));
+    }
+
+    public static @NotNull CacheView of(@NotNull ServerCache cache) {
+        return new CacheView("servers", cache::size, cache::getHits, cache::getMisses, cache::getEvictions);
+    }
+
+    /**
+     * Nodes are never evicted, and every miss loads the node from the panel.
+     */
+    public static @NotNull CacheView of(@NotNull NodeCache cache) {
+        return new CacheView("nodes", cache::size, cache::getHits, cache::getLoads, () -> 0);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getSize() {
+        return size.getAsInt();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.getAsLong();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.getAsLong();
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.getAsLong();
+    }
+
+}
@@ -0,0 +1,23 @@
+package net.luxcube.minecraft.metrics.export;
+
+/**
+ * The state of the bridge worker, as seen through JMX.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public interface ExecutorMXBean {
+
+    int getQueueDepth();
+
+    int getQueuedTasks();
+
+    int getActiveTasks();
+
+    long getRejectedTasks();
+
+    long getCompletedTasks();
+
+    int getOpenWebSockets();
+
+}
@@ -0,0 +1,217 @@
+package net.luxcube.minecraft.metrics.export;
+
+import net.luxcube.minecraft.executor.AdmissionExecutorService;
+import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.metrics.OperationMetrics;
+import net.luxcube.minecraft.metrics.OperationStats;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
+import net.luxcube.minecraft.websocket.SocketManager;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Registers the worker, the caches and every operation of a bridge as MBeans, under
+ * {@code net.luxcube.minecraft:panel=<host>,type=Executor|Cache|Operation,name=<name>}.
+ * Operations are registered as they're recorded for the first time.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class JmxExporter {
+
+    public static final String DOMAIN = "net.luxcube.minecraft";
+
+    private final PteroBridgeVO bridge;
+    private final String panel;
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private final Set<ObjectName> registered = ConcurrentHashMap.newKeySet();
+
+    private final Consumer<OperationStats> operationListener = this::register;
+
+    public JmxExporter(@NotNull PteroBridgeVO bridge) {
+        this.bridge = bridge;
+
+        URL address = bridge.getAddress();
+        this.panel = ObjectName.quote(address.getPort() < 0 ? address.getHost() : address.getHost() + ":" + address.getPort());
+    }
+
+    public void start() {
+        register("type=Executor", new ExecutorView(bridge.getWorker(), bridge.getSocketManager()));
+
+        for (CacheView cache : CacheView.of(bridge)) {
+            register("type=Cache,name=" + cache.getName(), cache);
+        }
+
+        // Listen before walking the recorded operations, so none is missed in between
+        bridge.getMetrics()
+            .registerListener(operationListener);
+
+        for (OperationMetrics operation : bridge.getMetrics().getOperations().values()) {
+            register((OperationStats) operation);
+        }
+    }
+
+    public void stop() {
+        bridge.getMetrics()
+            .unregisterListener(operationListener);
+
+        for (ObjectName name : registered) {
+            try {
+                server.unregisterMBean(name);
+            } catch (@NotNull JMException ignored) {
+                // Someone else unregistered it already
+            }
+        }
+
+        registered.clear();
+    }
+
+    private void register(@NotNull OperationStats operation) {
+        register("type=Operation,name=" + ObjectName.quote(operation.getName()), new OperationView(operation));
+    }
+
+    private void register(@NotNull String properties, @NotNull Object mbean) {
+        ObjectName name;
+        try {
+            name = new ObjectName(DOMAIN + ":panel=" + panel + "," + properties);
+        } catch (@NotNull JMException e) {
+            PteroLogger.severe("Invalid MBean name {}", properties, e);
+            return;
+        }
+
+        if (!registered.add(name)) {
+            return;
+        }
+
+        try {
+            server.registerMBean(mbean, name);
+        } catch (@NotNull InstanceAlreadyExistsException e) {
+            registered.remove(name);
+            PteroLogger.warning("MBean {} is already registered, is there another bridge to the same panel?", name);
+        } catch (@NotNull JMException e) {
+            registered.remove(name);
+            PteroLogger.severe("Couldn't register the MBean {}", name, e);
+        }
+    }
+
+    private record ExecutorView(
+        @NotNull AdmissionExecutorService worker,
+        @NotNull SocketManager socketManager
+    ) implements ExecutorMXBean {
+
+        @Override
+        public int getQueueDepth() {
+            return worker.getQueueDepth();
+        }
+
+        @Override
+        public int getQueuedTasks() {
+            return worker.getQueuedTasks();
+        }
+
+        @Override
+        public int getActiveTasks() {
+            return worker.getActiveTasks();
+        }
+
+        @Override
+        public long getRejectedTasks() {
+            return worker.getRejectedTasks();
+        }
+
+        @Override
+        public long getCompletedTasks() {
+            return worker.getCompletedTasks();
+        }
+
+        @Override
+        public int getOpenWebSockets() {
+            return socketManager.getOpenConnections();
+        }
+
+    }
+
+    private record OperationView(@NotNull OperationStats operation) implements OperationMXBean {
+
+        @Override
+        public String getName() {
+            return operation.getName();
+        }
+
+        @Override
+        public long getCalls() {
+            return operation.getCalls();
+        }
+
+        @Override
+        public long getErrors() {
+            return operation.getErrors();
+        }
+
+        @Override
+        public long getHttpCalls() {
+            return operation.getHttpCalls();
+        }
+
+        @Override
+        public double getThroughput() {
+            return operation.getThroughput();
+        }
+
+        @Override
+        public double getMeanLatencyMillis() {
+            return millis(operation.getMeanLatency().toNanos());
+        }
+
+        @Override
+        public double getMaxLatencyMillis() {
+            return millis(operation.getMaxLatency().toNanos());
+        }
+
+        @Override
+        public double getP50Millis() {
+            return millis(operation.getP50().toNanos());
+        }
+
+        @Override
+        public double getP99Millis() {
+            return millis(operation.getP99().toNanos());
+        }
+
+        @Override
+        public double getP999Millis() {
+            return millis(operation.getP999().toNanos());
+        }
+
+        @Override
+        public double getQueueWaitP99Millis() {
+            return millis(operation.getQueueWait(0.99).toNanos());
+        }
+
+        @Override
+        public double getExecutionP99Millis() {
+            return millis(operation.getExecution(0.99).toNanos());
+        }
+
+        @Override
+        public void reset() {
+            operation.reset();
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000D;
+        }
+
+    }
+
+}
@@ -0,0 +1,38 @@
+package net.luxcube.minecraft.metrics.export;
+
+/**
+ * The metrics of a single operation, as seen through JMX.
+ * Latencies are in milliseconds, since JMX consoles don't render {@link java.time.Duration}.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public interface OperationMXBean {
+
+    String getName();
+
+    long getCalls();
+
+    long getErrors();
+
+    long getHttpCalls();
+
+    double getThroughput();
+
+    double getMeanLatencyMillis();
+
+    double getMaxLatencyMillis();
+
+    double getP50Millis();
+
+    double getP99Millis();
+
+    double getP999Millis();
+
+    double getQueueWaitP99Millis();
+
+    double getExecutionP99Millis();
+
+    void reset();
+
+}
@@ -0,0 +1,269 @@
+package net.luxcube.minecraft.metrics.export;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.luxcube.minecraft.executor.AdmissionExecutorService;
+import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.metrics.OperationMetrics;
+import net.luxcube.minecraft.ratelimit.TokenBucket;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * Serves the metrics of a bridge in the Prometheus text format on {@code /metrics},
+ * from the HTTP server embedded in the JDK, so no client library is needed.
+ * The metrics are read when scraped, nothing is computed in between.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class PrometheusExporter {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final PteroBridgeVO bridge;
+    private final InetSocketAddress address;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public PrometheusExporter(@NotNull PteroBridgeVO bridge, @NotNull String host, int port) {
+        this.bridge = bridge;
+        this.address = new InetSocketAddress(host, port);
+    }
+
+    public synchronized void start() {
+        if (server != null) {
+            return;
+        }
+
+        try {
+            server = HttpServer.create(address, 0);
+        } catch (@NotNull IOException e) {
+            PteroLogger.severe("Couldn't serve the Prometheus metrics on {}", address, e);
+            return;
+        }
+
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "PteroMC-Prometheus");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        server.setExecutor(executor);
+        server.createContext("/metrics", this::handle);
+        server.start();
+
+        PteroLogger.debug("Serving the Prometheus metrics on {}", address);
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+
+        server.stop(0);
+        executor.shutdownNow();
+
+        server = null;
+        executor = null;
+    }
+
+    /**
+     * @return The port the endpoint is bound to, useful when started on port zero.
+     */
+    public synchronized int getPort() {
+        return server == null ? -1 : server.getAddress().getPort();
+    }
+
+    private void handle(@NotNull HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().add("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    /**
+     * @return Every metric of the bridge, in the Prometheus text format.
+     */
+    public @NotNull String scrape() {
+        StringBuilder builder = new StringBuilder(4096);
+
+        AdmissionExecutorService worker = bridge.getWorker();
+        metric(builder, "ptero_executor_queue_depth", "gauge", "Tasks the worker accepts before rejecting new ones.", worker.getQueueDepth());
+        metric(builder, "ptero_executor_queued_tasks", "gauge", "Tasks waiting for a worker thread.", worker.getQueuedTasks());
+        metric(builder, "ptero_executor_active_tasks", "gauge", "Tasks being run by the worker.", worker.getActiveTasks());
+        metric(builder, "ptero_executor_rejected_tasks_total", "counter", "Tasks rejected because the worker was full.", worker.getRejectedTasks());
+        metric(builder, "ptero_executor_completed_tasks_total", "counter", "Tasks run by the worker.", worker.getCompletedTasks());
+
+        metric(builder, "ptero_websocket_connections", "gauge", "Websockets open to the panel.", bridge.getSocketManager().getOpenConnections());
+
+        List<TokenBucket> limiters = Stream.of(bridge.getApplicationLimiter(), bridge.getClientLimiter())
+            .filter(Objects::nonNull)
+            .toList();
+
+        family(builder, "ptero_ratelimit_tokens", "gauge", "Requests that can be sent right away, per key.",
+            limiters, limiter -> "key=\"" + escape(limiter.getName()) + "\"", TokenBucket::getAvailableTokens);
+
+        List<CacheView> caches = CacheView.of(bridge);
+        Function<CacheView, String> cacheLabel = cache -> "cache=\"" + cache.getName() + "\"";
+
+        family(builder, "ptero_cache_size", "gauge", "Entries held by the cache.", caches, cacheLabel, CacheView::getSize);
+        family(builder, "ptero_cache_hits_total", "counter", "Lookups answered by the cache.", caches, cacheLabel, CacheView::getHits);
+        family(builder, "ptero_cache_misses_total", "counter", "Lookups sent to the panel.", caches, cacheLabel, CacheView::getMisses);
+        family(builder, "ptero_cache_evictions_total", "counter", "Entries evicted to make room.", caches, cacheLabel, CacheView::getEvictions);
+
+        Collection<OperationMetrics> operations = bridge.getMetrics().getOperations().values();
+        Function<OperationMetrics, String> operationLabel = operation -> "operation=\"" + escape(operation.getName()) + "\"";
+
+        summary(builder, "ptero_operation_latency_seconds", "Latency of the operations, until their future completes.", operations);
+
+        quantiles(builder, "ptero_operation_queue_wait_seconds", "Time the tasks of the operations waited for the worker.",
+            operations, OperationMetrics::getQueueWait);
+        quantiles(builder, "ptero_operation_execution_seconds", "Time the tasks of the operations ran in the worker.",
+            operations, OperationMetrics::getExecution);
+
+        family(builder, "ptero_operation_errors_total", "counter", "Calls of the operations that failed.",
+            operations, operationLabel, OperationMetrics::getErrors);
+        family(builder, "ptero_operation_http_requests_total", "counter", "HTTP requests sent to the panel by the operations.",
+            operations, operationLabel, OperationMetrics::getHttpCalls);
+
+        return builder.toString();
+    }
+
+    private static void metric(@NotNull StringBuilder builder, @NotNull String name, @NotNull String type, @NotNull String help, double value) {
+        header(builder, name, type, help);
+        sample(builder, name, null, value);
+    }
+
+    private static <T> void family(
+        @NotNull StringBuilder builder,
+        @NotNull String name,
+        @NotNull String type,
+        @NotNull String help,
+        @NotNull Collection<T> entries,
+        @NotNull Function<T, String> labels,
+        @NotNull ToDoubleFunction<T> value
+    ) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        header(builder, name, type, help);
+        for (T entry : entries) {
+            sample(builder, name, labels.apply(entry), value.applyAsDouble(entry));
+        }
+    }
+
+    private static void summary(
+        @NotNull StringBuilder builder,
+        @NotNull String name,
+        @NotNull String help,
+        @NotNull Collection<OperationMetrics> operations
+    ) {
+        if (operations.isEmpty()) {
+            return;
+        }
+
+        header(builder, name, "summary", help);
+        for (OperationMetrics operation : operations) {
+            String label = "operation=\"" + escape(operation.getName()) + "\"";
+            for (double quantile : QUANTILES) {
+                sample(builder, name, label + ",quantile=\"" + quantile + "\"", seconds(operation.getLatency(quantile)));
+            }
+
+            // The histogram only keeps the mean, which gives the sum back
+            sample(builder, name + "_sum", label, seconds(operation.getMeanLatency()) * operation.getCalls());
+            sample(builder, name + "_count", label, operation.getCalls());
+        }
+    }
+
+    private static void quantiles(
+        @NotNull StringBuilder builder,
+        @NotNull String name,
+        @NotNull String help,
+        @NotNull Collection<OperationMetrics> operations,
+        @NotNull Quantile quantile
+    ) {
+        if (operations.isEmpty()) {
+            return;
+        }
+
+        header(builder, name, "gauge", help);
+        for (OperationMetrics operation : operations) {
+            String label = "operation=\"" + escape(operation.getName()) + "\"";
+            for (double target : QUANTILES) {
+                sample(builder, name, label + ",quantile=\"" + target + "\"", seconds(quantile.get(operation, target)));
+            }
+        }
+    }
+
+    private static void header(@NotNull StringBuilder builder, @NotNull String name, @NotNull String type, @NotNull String help) {
+        builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(@NotNull StringBuilder builder, @NotNull String name, @Nullable String labels, double value) {
+        builder.append(name);
+        if (labels != null) {
+            builder.append('{').append(labels).append('}');
+        }
+
+        builder.append(' ');
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            builder.append((long) value);
+        } else {
+            builder.append(String.format(Locale.ROOT, "%.9g", value));
+        }
+
+        builder.append('\n');
+    }
+
+    private static double seconds(@NotNull Duration duration) {
+        return duration.toNanos() / 1_000_000_000D;
+    }
+
+    private static @NotNull String escape(@NotNull String value) {
+        return value.replace("\\", "\\\\")
+            .replace("\"", "\\\"")
+            .replace("\n", "\\n");
+    }
+
+    @FunctionalInterface
+    private interface Quantile {
+
+        @NotNull Duration get(@NotNull OperationMetrics operation, double quantile);
+
+    }
+
+}
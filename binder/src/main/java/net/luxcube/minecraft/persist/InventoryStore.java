@@ -0,0 +1,277 @@
+package net.luxcube.minecraft.persist;
+
+import net.luxcube.minecraft.cache.NodeCache;
+import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.server.PteroServer;
+import net.luxcube.minecraft.server.PteroServerImpl;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
+import org.jetbrains.annotations.Blocking;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Persists the nodes, servers and users known by the binder to a local file,
+ * so a restart starts with warm indexes instead of scanning the whole panel first.
+ * The loaded entries are served as stale until the indexes are rebuilt in the background.
+ * <p>
+ * The file is a compact binary snapshot, memory-mapped when read and replaced atomically when written,
+ * which the bridge also does when it's shut down:
+ * <pre>
+ * header:  magic (int), version (int), written at (long)
+ * nodes:   count (int), then id, name, allocation count (int) and each allocation id and address
+ * owners:  count (int), then id, server count (int) and each server's internal id, identifier,
+ *          name, UUID (two longs), address and node
+ * users:   count (int), then id and short UUID
+ * </pre>
+ * Strings are written as their UTF-8 length (int) followed by the bytes.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class InventoryStore {
+
+    private static final int MAGIC = 0x50544D43; // PTMC
+    private static final int VERSION = 1;
+
+    private final PteroBridgeVO bridge;
+    private final Path file;
+
+    public InventoryStore(@NotNull PteroBridgeVO bridge, @NotNull Path file) {
+        this.bridge = bridge;
+        this.file = file;
+    }
+
+    /**
+     * Seeds the node cache and the indexes from the file, if there's a valid one.
+     *
+     * @return If anything was loaded.
+     */
+    @Blocking
+    public boolean load() {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+
+        Map<String, NodeCache.NodeEntry> nodes = new HashMap<>();
+        Map<String, List<PteroServer>> servers = new HashMap<>();
+        Map<String, String> users = new HashMap<>();
+
+        MappedByteBuffer buffer = null;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                PteroLogger.warning("Ignoring the inventory file {}, it was written by another version", file);
+                return false;
+            }
+
+            long writtenAt = buffer.getLong();
+
+            for (int i = buffer.getInt(); i > 0; i--) {
+                String id = readString(buffer), name = readString(buffer);
+
+                Map<String, String> addresses = new HashMap<>();
+                for (int j = buffer.getInt(); j > 0; j--) {
+                    addresses.put(readString(buffer), readString(buffer));
+                }
+
+                nodes.put(id, new NodeCache.NodeEntry(name, addresses));
+            }
+
+            for (int i = buffer.getInt(); i > 0; i--) {
+                String ownerId = readString(buffer);
+
+                List<PteroServer> owned = new ArrayList<>();
+                for (int j = buffer.getInt(); j > 0; j--) {
+                    String internalId = readString(buffer),
+                        identifier = readString(buffer),
+                        name = readString(buffer);
+
+                    UUID uuid = new UUID(buffer.getLong(), buffer.getLong());
+
+                    owned.add(new PteroServerImpl(
+                        bridge,
+                        identifier,
+                        internalId,
+                        readString(buffer),
+                        readString(buffer),
+                        name,
+                        uuid
+                    ));
+                }
+
+                servers.put(ownerId, owned);
+            }
+
+            for (int i = buffer.getInt(); i > 0; i--) {
+                users.put(readString(buffer), readString(buffer));
+            }
+
+            PteroLogger.debug(
+                "Loaded the inventory written {} seconds ago in {} ms",
+                (System.currentTimeMillis() - writtenAt) / 1000,
+                (System.nanoTime() - start) / 1_000_000
+            );
+        } catch (@NotNull IOException | BufferUnderflowException | IllegalArgumentException e) {
+            PteroLogger.warning("Couldn't read the inventory file {}: {}", file, e.getMessage());
+            return false;
+        } finally {
+            if (buffer != null) {
+                unmap(buffer);
+            }
+        }
+
+        nodes.forEach((id, entry) -> bridge.getNodeCache().seed(id, entry.name(), entry.addresses()));
+
+        if (bridge.getOwnerIndex().isEnabled() && !servers.isEmpty()) {
+            bridge.getOwnerIndex().seed(servers);
+        }
+
+        if (bridge.getUserIndex().isEnabled() && !users.isEmpty()) {
+            bridge.getUserIndex().seed(users);
+        }
+
+        return true;
+    }
+
+    /**
+     * Writes what the node cache and the indexes currently know to the file.
+     * The snapshot is written next to it first and then moved, so a crash never leaves a partial file.
+     */
+    @Blocking
+    public synchronized void save() {
+        long start = System.nanoTime();
+
+        Map<String, NodeCache.NodeEntry> nodes = bridge.getNodeCache().getEntries();
+        Map<String, List<PteroServer>> servers = bridge.getOwnerIndex().isWarm()
+            ? bridge.getOwnerIndex().getEntries()
+            : Map.of();
+        Map<String, String> users = bridge.getUserIndex().isWarm()
+            ? bridge.getUserIndex().getEntries()
+            : Map.of();
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeLong(System.currentTimeMillis());
+
+                output.writeInt(nodes.size());
+                for (Map.Entry<String, NodeCache.NodeEntry> entry : nodes.entrySet()) {
+                    writeString(output, entry.getKey());
+                    writeString(output, entry.getValue().name());
+
+                    Map<String, String> addresses = Map.copyOf(entry.getValue().addresses());
+                    output.writeInt(addresses.size());
+                    for (Map.Entry<String, String> address : addresses.entrySet()) {
+                        writeString(output, address.getKey());
+                        writeString(output, address.getValue());
+                    }
+                }
+
+                output.writeInt(servers.size());
+                for (Map.Entry<String, List<PteroServer>> entry : servers.entrySet()) {
+                    writeString(output, entry.getKey());
+
+                    output.writeInt(entry.getValue().size());
+                    for (PteroServer server : entry.getValue()) {
+                        writeString(output, server.getInternalId());
+                        writeString(output, server.getIdentifier());
+                        writeString(output, server.getName());
+                        output.writeLong(server.getUUID().getMostSignificantBits());
+                        output.writeLong(server.getUUID().getLeastSignificantBits());
+                        writeString(output, server.getAddress());
+                        writeString(output, server.getNode());
+                    }
+                }
+
+                output.writeInt(users.size());
+                for (Map.Entry<String, String> entry : users.entrySet()) {
+                    writeString(output, entry.getKey());
+                    writeString(output, entry.getValue());
+                }
+            }
+
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (@NotNull AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            PteroLogger.debug(
+                "Saved the inventory with {} nodes, {} owners and {} users in {} ms",
+                nodes.size(),
+                servers.size(),
+                users.size(),
+                (System.nanoTime() - start) / 1_000_000
+            );
+        } catch (@NotNull IOException e) {
+            PteroLogger.severe("Couldn't save the inventory file {}", file, e);
+        }
+    }
+
+    /**
+     * Releases the mapping right away instead of when the buffer is collected,
+     * a mapped file can't be replaced on Windows.
+     */
+    private static void unmap(@NotNull MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class)
+                .invoke(field.get(null), buffer);
+        } catch (@NotNull ReflectiveOperationException | RuntimeException e) {
+            PteroLogger.debug("Couldn't unmap the inventory file, it's released once collected: {}", e.getMessage());
+        }
+    }
+
+    private static void writeString(@NotNull DataOutputStream output, @NotNull String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static @NotNull String readString(@NotNull ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length " + length);
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
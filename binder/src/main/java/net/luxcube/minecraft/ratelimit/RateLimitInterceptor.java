@@ -0,0 +1,103 @@
+package net.luxcube.minecraft.ratelimit;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes a token from the bucket before every request of the key and
+ * feeds the rate limit headers of the response back into it.
+ * <p>
+ * It runs on the threads of Pterodactyl4J, so it never waits for a pause: while the key is
+ * paused it answers 429 by itself, with what's left of the pause as {@code Retry-After},
+ * and the bridge holds its own calls on its worker until their turn comes.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class RateLimitInterceptor implements Interceptor {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    // The same error the panel sends, in case the body is read
+    private static final String PAUSED_BODY = "{\"errors\":[{\"code\":\"TooManyRequestsHttpException\",\"status\":\"429\",\"detail\":\"Too Many Attempts.\"}]}";
+
+    private final TokenBucket bucket;
+
+    public RateLimitInterceptor(@NotNull TokenBucket bucket) {
+        this.bucket = bucket;
+    }
+
+    @Override
+    public @NotNull Response intercept(@NotNull Chain chain) throws IOException {
+        long paused = bucket.getPauseRemaining();
+        if (paused > 0) {
+            return tooManyRequests(chain.request(), paused);
+        }
+
+        try {
+            bucket.acquire();
+        } catch (@NotNull InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the " + bucket.getName() + " rate limit");
+        }
+
+        // The panel may have paused the key while this request was waiting for its token
+        paused = bucket.getPauseRemaining();
+        if (paused > 0) {
+            return tooManyRequests(chain.request(), paused);
+        }
+
+        Response response = chain.proceed(chain.request());
+
+        bucket.adapt(
+            parseHeader(response, "X-RateLimit-Limit"),
+            parseHeader(response, "X-RateLimit-Remaining")
+        );
+
+        if (response.code() == TOO_MANY_REQUESTS) {
+            int retryAfter = parseHeader(response, "Retry-After");
+            bucket.pause(Math.max(1, retryAfter), TimeUnit.SECONDS);
+        }
+
+        return response;
+    }
+
+    private @NotNull Response tooManyRequests(@NotNull Request request, long paused) {
+        long retryAfter = Math.max(1, (paused + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+
+        return new Response.Builder()
+            .request(request)
+            .protocol(Protocol.HTTP_1_1)
+            .code(TOO_MANY_REQUESTS)
+            .message("Too Many Requests")
+            .header("Retry-After", String.valueOf(retryAfter))
+            .header("X-RateLimit-Remaining", "0")
+            .body(ResponseBody.create(PAUSED_BODY, JSON))
+            .build();
+    }
+
+    private int parseHeader(@NotNull Response response, @NotNull String name) {
+        String value = response.header(name);
+        if (value == null) {
+            return -1;
+        }
+
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (@NotNull NumberFormatException e) {
+            return -1;
+        }
+    }
+
+}
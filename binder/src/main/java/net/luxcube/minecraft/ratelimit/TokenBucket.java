@@ -0,0 +1,170 @@
+package net.luxcube.minecraft.ratelimit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket that follows the Pterodactyl's per-key rate limit.
+ * The panel counts requests in windows of one minute, so the bucket
+ * refills at {@code limit / 60} tokens per second and only allows
+ * a small burst above it.
+ * <p>
+ * Callers reserve a token and sleep until their reservation is due, so
+ * waiting callers are served in the same order they arrived.
+ * After a 429 the refill only starts again once the pause is over, so the
+ * requests held by it are handed their tokens one by one instead of all at once.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class TokenBucket {
+
+    private static final long WINDOW = TimeUnit.MINUTES.toNanos(1);
+
+    private final String name;
+    private final int burst;
+
+    private int limit;
+    private double tokensPerNano;
+
+    private double tokens;
+    private long lastRefill;
+    private long blockedUntil;
+    private int turns;
+
+    public TokenBucket(@NotNull String name, int limit, int burst) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be greater than 0");
+        }
+
+        this.name = name;
+        this.burst = Math.max(1, burst);
+        this.lastRefill = System.nanoTime();
+
+        setLimit(limit);
+        this.tokens = capacity();
+    }
+
+    /**
+     * Waits until a token is available.
+     *
+     * @throws InterruptedException If the thread was interrupted while waiting.
+     */
+    public void acquire() throws InterruptedException {
+        long wait = reserve();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Updates the bucket from the rate limit headers sent by the panel.
+     *
+     * @param limit     The value of the X-RateLimit-Limit header, or -1 if absent.
+     * @param remaining The value of the X-RateLimit-Remaining header, or -1 if absent.
+     */
+    public synchronized void adapt(int limit, int remaining) {
+        if (limit > 0 && limit != this.limit) {
+            setLimit(limit);
+        }
+
+        if (remaining >= 0 && tokens > remaining) {
+            // The panel knows better, some requests may come from other processes using the same key
+            tokens = remaining;
+        }
+    }
+
+    /**
+     * Blocks the bucket, used when the panel answers with 429.
+     *
+     * @param duration The time to wait before sending another request.
+     * @param unit     The unit of the duration.
+     */
+    public synchronized void pause(long duration, @NotNull TimeUnit unit) {
+        long now = System.nanoTime();
+        refill(now);
+
+        if (blockedUntil - now <= 0) {
+            turns = 0;
+        }
+
+        long until = now + unit.toNanos(duration);
+        if (until - blockedUntil > 0) {
+            blockedUntil = until;
+        }
+
+        tokens = Math.min(tokens, 0);
+        lastRefill = blockedUntil;
+    }
+
+    /**
+     * @return The nanoseconds left of the pause, zero or less if the bucket isn't paused.
+     */
+    public synchronized long getPauseRemaining() {
+        return blockedUntil - System.nanoTime();
+    }
+
+    /**
+     * Takes a turn to send a request once the pause is over, spaced by the refill rate
+     * from the turns taken before it.
+     *
+     * @return The nanoseconds to wait before sending, zero if the bucket isn't paused.
+     */
+    public synchronized long takeTurn() {
+        long paused = blockedUntil - System.nanoTime();
+        if (paused <= 0) {
+            return 0;
+        }
+
+        return paused + (long) Math.ceil(++turns / tokensPerNano);
+    }
+
+    public synchronized double getAvailableTokens() {
+        refill(System.nanoTime());
+        return tokens;
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public @NotNull String getName() {
+        return name;
+    }
+
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        refill(now);
+
+        tokens -= 1;
+
+        long wait = tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+        if (lastRefill - now > 0) {
+            // Paused, the refill starts again at the end of the pause
+            wait += lastRefill - now;
+        }
+
+        return wait;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefill;
+        if (elapsed <= 0) {
+            return;
+        }
+
+        tokens = Math.min(capacity(), tokens + elapsed * tokensPerNano);
+        lastRefill = now;
+    }
+
+    private void setLimit(int limit) {
+        this.limit = limit;
+        this.tokensPerNano = (double) limit / WINDOW;
+    }
+
+    private double capacity() {
+        return Math.min(burst, limit);
+    }
+
+}
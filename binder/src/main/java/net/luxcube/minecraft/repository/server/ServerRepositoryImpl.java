@@ -1,20 +1,32 @@
 package net.luxcube.minecraft.repository.server;
 
 import com.mattmalec.pterodactyl4j.application.entities.ApplicationServer;
-import com.mattmalec.pterodactyl4j.exceptions.NotFoundException;
+import com.mattmalec.pterodactyl4j.exceptions.PteroException;
 import net.luxcube.minecraft.exception.ServerDoesntExistException;
 import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.metrics.BridgeMetrics;
+import net.luxcube.minecraft.result.Result;
 import net.luxcube.minecraft.server.PteroServer;
-import net.luxcube.minecraft.server.PteroServerImpl;
-import net.luxcube.minecraft.util.Pair;
+import net.luxcube.minecraft.server.snapshot.ServerSnapshot;
+import net.luxcube.minecraft.server.status.StatusType;
+import net.luxcube.minecraft.server.usage.ServerUsage;
+import net.luxcube.minecraft.stream.PagedPublisher;
+import net.luxcube.minecraft.util.FanOut;
+import net.luxcube.minecraft.util.Misses;
 import net.luxcube.minecraft.util.Servers;
 import net.luxcube.minecraft.util.Try;
 import net.luxcube.minecraft.vo.PteroBridgeVO;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +35,8 @@ import java.util.stream.Collectors;
  **/
 public class ServerRepositoryImpl implements ServerRepository {
 
+    private static final int PAGE_SIZE = 100;
+
     private final PteroBridgeVO bridge;
 
     public ServerRepositoryImpl(@NotNull PteroBridgeVO bridge) {
@@ -31,120 +45,200 @@ public class ServerRepositoryImpl implements ServerRepository {
 
     @Override
     public CompletableFuture<PteroServer> findServerByName(@NotNull String name) {
-        PteroLogger.debug("Searching server by name: %s", name);
-
-        return CompletableFuture.supplyAsync(() -> {
-            return bridge.getApplication()
-                .retrieveServersByName(name, true)
-                .execute();
-        }, bridge.getWorker()).thenApply(collection -> {
-            if (collection.isEmpty()) {
-                throw new ServerDoesntExistException(name);
-            }
+        PteroLogger.debug("Searching server by name: {}", name);
 
-            ApplicationServer any = collection.stream()
-                .findAny()
-                .orElseThrow();
-
-            Pair<String, String> addressAndNode = Servers.getAddressAndNode(any);
-
-            return new PteroServerImpl(
-                bridge,
-                any.getIdentifier(),
-                any.getId(),
-                addressAndNode.first(),
-                addressAndNode.second(),
-                any.getName(),
-                any.getUUID()
-            );
+        return bridge.getMetrics().time("ServerRepository.findServerByName", name, () -> {
+            return lookupByName(name).thenApply(optional -> {
+                return optional.orElseThrow(() -> ServerDoesntExistException.stackless(name));
+            });
         });
     }
 
     @Override
     public CompletableFuture<PteroServer> findServerBySnowflake(@NotNull String snowflake) {
-        PteroLogger.debug("Searching server by snowflake: %s", snowflake);
+        PteroLogger.debug("Searching server by snowflake: {}", snowflake);
 
-        return CompletableFuture.supplyAsync(() -> {
-            Try<ApplicationServer> catching = Try.catching(() -> {
-                return bridge.getApplication()
-                    .retrieveServerById(snowflake)
-                    .execute();
-            });
+        return bridge.getMetrics().time("ServerRepository.findServerBySnowflake", snowflake, () -> lookupBySnowflake(snowflake));
+    }
 
-            catching.catching(NotFoundException.class, e -> {
-                throw new ServerDoesntExistException(snowflake);
-            });
+    @Override
+    public CompletableFuture<Optional<PteroServer>> findServerByNameIfPresent(@NotNull String name) {
+        PteroLogger.debug("Searching server by name if present: {}", name);
+
+        return bridge.getMetrics().time("ServerRepository.findServerByNameIfPresent", name, () -> lookupByName(name));
+    }
 
-            return catching.unwrap();
-        }, bridge.getWorker()).thenApply(server -> {
-            Pair<String, String> addressAndNode = Servers.getAddressAndNode(server);
-
-            return new PteroServerImpl(
-                bridge,
-                server.getIdentifier(),
-                server.getId(),
-                addressAndNode.first(),
-                addressAndNode.second(),
-                server.getName(),
-                server.getUUID()
+    @Override
+    public CompletableFuture<Optional<PteroServer>> findServerBySnowflakeIfPresent(@NotNull String snowflake) {
+        PteroLogger.debug("Searching server by snowflake if present: {}", snowflake);
+
+        return bridge.getMetrics().time("ServerRepository.findServerBySnowflakeIfPresent", snowflake, () -> {
+            return Misses.recover(lookupBySnowflake(snowflake), ServerDoesntExistException.class);
+        });
+    }
+
+    private CompletableFuture<Optional<PteroServer>> lookupByName(@NotNull String name) {
+        PteroServer cached = bridge.getServerCache().getByName(name);
+        if (cached != null) {
+            BridgeMetrics.recordCacheHit();
+            return CompletableFuture.completedFuture(Optional.of(cached));
+        }
+
+        return bridge.supplyAsync(() -> {
+            return bridge.executeApplication(
+                bridge.getApplication()
+                    .retrieveServersByName(name, true)
             );
+        }).thenApply(collection -> {
+            ApplicationServer any = collection.stream()
+                .findAny()
+                .orElse(null);
+
+            if (any == null) {
+                return Optional.empty();
+            }
+
+            PteroServer server = Servers.toPteroServer(bridge, any);
+
+            bridge.getServerCache().put(server);
+            bridge.getOwnerIndex().track(any.getOwnerId(), server);
+            return Optional.of(server);
         });
     }
 
+    private CompletableFuture<PteroServer> lookupBySnowflake(@NotNull String snowflake) {
+        PteroServer cached = bridge.getServerCache().getByInternalId(snowflake);
+        if (cached != null) {
+            BridgeMetrics.recordCacheHit();
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return bridge.getLookup()
+            .retrieveApplicationServer(snowflake)
+            .thenApplyAsync(applicationServer -> {
+                PteroServer server = Servers.toPteroServer(bridge, applicationServer);
+
+                bridge.getServerCache().put(server);
+                bridge.getOwnerIndex().track(applicationServer.getOwnerId(), server);
+                return server;
+            }, bridge.getWorker());
+    }
+
     @Override
     public CompletableFuture<PteroServer> deleteServer(@NotNull PteroServer server) {
-        PteroLogger.debug("Deleting server: %s", server.getName());
-
-        return CompletableFuture.supplyAsync(() -> {
-            Try<ApplicationServer> catching = Try.catching(() -> {
-                return bridge.getApplication()
-                    .retrieveServersByName(server.getName(), true)
-                    .execute(true)
-                    .stream()
-                    .findAny()
-                    .orElseThrow();
+        PteroLogger.debug("Deleting server: {}", server.getName());
+
+        return bridge.getMetrics().time("ServerRepository.deleteServer", server.getIdentifier(), () -> {
+            return bridge.supplyAsync(() -> {
+                Try<ApplicationServer> catching = Try.catching(() -> {
+                    return bridge.executeApplication(
+                        bridge.getApplication()
+                            .retrieveServersByName(server.getName(), true)
+                    ).stream()
+                        .findAny()
+                        .orElseThrow();
+                });
+
+                // A timeout must not be reported as a missing server
+                catching.catching(NoSuchElementException.class, e -> {
+                    throw ServerDoesntExistException.stackless(server.getName());
+                });
+
+                catching.catching(PteroException.class, e -> {
+                    throw ServerDoesntExistException.stackless(server.getName());
+                });
+
+                return catching.unwrap();
+            }).thenApply(applicationServer -> {
+                bridge.executeApplication(
+                    applicationServer.getController()
+                        .delete(true)
+                );
+
+                bridge.getServerCache().invalidate(server);
+                bridge.getOwnerIndex().untrack(server);
+                return server;
             });
+        });
+    }
 
-            catching.catching(Exception.class, e -> {
-                throw new ServerDoesntExistException(server.getName());
+    @Override
+    public CompletableFuture<List<PteroServer>> retrieveServersByPage(int page, int size) {
+        PteroLogger.debug("Retrieving servers by page: {}, size: {}", page, size);
+
+        return bridge.getMetrics().time("ServerRepository.retrieveServersByPage", () -> {
+            return bridge.supplyAsync(() -> {
+                return bridge.executeApplication(
+                    bridge.getApplication()
+                        .retrieveServers()
+                        .skipTo(Math.max(page, 1))
+                        .limit(size)
+                );
+            }).thenApply(clientServers -> {
+                return clientServers.stream()
+                    .map(server -> {
+                        PteroServer pteroServer = Servers.toPteroServer(bridge, server);
+
+                        bridge.getServerCache().put(pteroServer);
+                        bridge.getOwnerIndex().track(server.getOwnerId(), pteroServer);
+                        return pteroServer;
+                    }).collect(Collectors.toList());
             });
+        });
+    }
+
+    @Override
+    public @NotNull Flow.Publisher<PteroServer> streamServers() {
+        PteroLogger.debug("Streaming all servers");
 
-            return catching.unwrap();
-        }, bridge.getWorker()).thenApply(applicationServer -> {
-            applicationServer.getController()
-                .delete(true)
-                .execute(true);
+        return new PagedPublisher<>(PAGE_SIZE, page -> retrieveServersByPage(page, PAGE_SIZE));
+    }
 
-            return server;
+    @Override
+    public CompletableFuture<Map<String, Result<StatusType>>> retrieveStatuses(@NotNull Collection<? extends PteroServer> servers) {
+        return bridge.getMetrics().time("ServerRepository.retrieveStatuses", () -> {
+            return retrieveSnapshots(servers)
+                .thenApply(snapshots -> map(snapshots, ServerSnapshot::getStatus));
         });
     }
 
     @Override
-    public CompletableFuture<List<PteroServer>> retrieveServersByPage(int page, int size) {
-        PteroLogger.debug("Retrieving servers by page: %d, size: %d", page, size);
-
-        return CompletableFuture.supplyAsync(() -> {
-            return bridge.getApplication()
-                .retrieveServers()
-                .skipTo(Math.max(page, 1))
-                .limit(size)
-                .timeout(10, TimeUnit.SECONDS)
-                .execute();
-        }).thenApply(clientServers -> {
-            return clientServers.stream()
-                .map(server -> {
-                    Pair<String, String> addressAndNode = Servers.getAddressAndNode(server);
-
-                    return new PteroServerImpl(
-                        bridge,
-                        server.getIdentifier(),
-                        server.getId(),
-                        addressAndNode.first(),
-                        addressAndNode.second(),
-                        server.getName(),
-                        server.getUUID()
-                    );
-                }).collect(Collectors.toList());
+    public CompletableFuture<Map<String, Result<ServerUsage>>> retrieveUsages(@NotNull Collection<? extends PteroServer> servers) {
+        return bridge.getMetrics().time("ServerRepository.retrieveUsages", () -> {
+            return retrieveSnapshots(servers)
+                .thenApply(snapshots -> map(snapshots, snapshot -> snapshot));
+        });
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Result<ServerSnapshot>>> retrieveSnapshots(@NotNull Collection<? extends PteroServer> servers) {
+        PteroLogger.debug("Retrieving snapshots of {} servers", servers.size());
+
+        return bridge.getMetrics().time("ServerRepository.retrieveSnapshots", () -> {
+            List<String> identifiers = servers.stream()
+                .map(PteroServer::getIdentifier)
+                .collect(Collectors.toList());
+
+            return FanOut.execute(
+                identifiers,
+                bridge.getOptions().getBatchParallelism(),
+                identifier -> bridge.getLookup().retrieveSnapshot(identifier)
+            );
         });
     }
+
+    private static <T> Map<String, Result<T>> map(
+        @NotNull Map<String, Result<ServerSnapshot>> snapshots,
+        @NotNull Function<ServerSnapshot, T> mapper
+    ) {
+        Map<String, Result<T>> results = new LinkedHashMap<>(snapshots.size());
+        snapshots.forEach((identifier, result) -> {
+            results.put(
+                identifier,
+                result.isSuccess() ? Result.success(mapper.apply(result.getValue())) : Result.failure(result.getError())
+            );
+        });
+
+        return results;
+    }
 }
@@ -1,12 +1,14 @@
 package net.luxcube.minecraft.repository.user;
 
 import com.mattmalec.pterodactyl4j.application.entities.ApplicationUser;
-import com.mattmalec.pterodactyl4j.exceptions.NotFoundException;
 import net.luxcube.minecraft.exception.UserDoesntExistException;
+import net.luxcube.minecraft.index.UserIndex;
 import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.scan.InventoryScanner;
+import net.luxcube.minecraft.stream.PagedPublisher;
 import net.luxcube.minecraft.user.PteroUser;
 import net.luxcube.minecraft.user.PteroUserImpl;
-import net.luxcube.minecraft.util.Try;
+import net.luxcube.minecraft.util.Misses;
 import net.luxcube.minecraft.util.Users;
 import net.luxcube.minecraft.vo.PteroBridgeVO;
 import org.jetbrains.annotations.NotNull;
@@ -14,7 +16,8 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
 
 /**
  * @author Luiz O. F. Corrêa
@@ -22,6 +25,8 @@ import java.util.concurrent.TimeUnit;
  **/
 public class UserRepositoryImpl implements UserRepository {
 
+    private static final int PAGE_SIZE = 100;
+
     private final PteroBridgeVO bridge;
 
     public UserRepositoryImpl(@NotNull PteroBridgeVO bridge) {
@@ -30,164 +35,251 @@ public class UserRepositoryImpl implements UserRepository {
 
     @Override
     public CompletableFuture<PteroUser> findUserByUsername(@NotNull String username) {
-        PteroLogger.debug("Searching for user by username: %s", username);
-
-        return CompletableFuture.supplyAsync(() -> {
-            Try<Optional<ApplicationUser>> catching = Try.catching(() -> {
-                return bridge.getApplication()
-                    .retrieveUsersByUsername(username, true)
-                    .timeout(5, TimeUnit.SECONDS)
-                    .execute()
-                    .stream()
-                    .findFirst();
-            });
+        PteroLogger.debug("Searching for user by username: {}", username);
 
-            catching.catching(NotFoundException.class, e -> {
-                throw new UserDoesntExistException(username);
+        return bridge.getMetrics().time("UserRepository.findUserByUsername", username, () -> {
+            return findByUsername(username).thenApply(optional -> {
+                return optional.orElseThrow(() -> UserDoesntExistException.stackless(username));
             });
-
-            return catching.unwrap()
-                .orElse(null);
-        }, bridge.getWorker()).thenApply(user -> {
-            if (user == null) {
-                throw new UserDoesntExistException(username);
-            }
-
-
-            return new PteroUserImpl(
-                bridge,
-                user.getId(),
-                username,
-                user.getEmail(),
-                null,
-                null
-            );
         });
     }
 
     @Override
     public CompletableFuture<PteroUser> findUserByUUID(@NotNull UUID uuid) {
-        PteroLogger.debug("Searching for user by UUID: %s", uuid.toString());
+        String identifier = uuid.toString();
+        PteroLogger.debug("Searching for user by UUID: {}", identifier);
 
-        String fromShort = Users.fromShort(uuid);
-        return CompletableFuture.supplyAsync(() -> {
-            return bridge.getApplication()
-                .retrieveUsers()
-                .cache(true)
-                .timeout(10, TimeUnit.SECONDS)
-                .stream()
-                .filter(target -> target.getFirstName().startsWith(fromShort))
-                .findAny()
-                .orElse(null);
-        }, bridge.getWorker()).thenApply(user -> {
-            if (user == null) {
-                throw new UserDoesntExistException(uuid.toString());
-            }
-
-            return new PteroUserImpl(
-                bridge,
-                user.getId(),
-                user.getUserName(),
-                user.getEmail(),
-                uuid,
-                null
-            );
+        return bridge.getMetrics().time("UserRepository.findUserByUUID", identifier, () -> {
+            return findByUUID(uuid).thenApply(optional -> {
+                return optional.orElseThrow(() -> UserDoesntExistException.stackless(identifier));
+            });
         });
     }
 
     @Override
     public CompletableFuture<PteroUser> findUserByEmail(@NotNull String email) {
-        PteroLogger.debug("Searching for user by email: %s", email);
-
-        return CompletableFuture.supplyAsync(() -> {
-            Try<Optional<ApplicationUser>> applicationUser = Try.catching(() -> {
-                return bridge.getApplication()
-                    .retrieveUsersByEmail(email, true)
-                    .timeout(5, TimeUnit.SECONDS)
-                    .execute()
-                    .stream()
-                    .findFirst();
-            });
+        PteroLogger.debug("Searching for user by email: {}", email);
 
-            applicationUser.catching(NotFoundException.class, e -> {
-                throw new UserDoesntExistException(email);
+        return bridge.getMetrics().time("UserRepository.findUserByEmail", email, () -> {
+            return findByEmail(email).thenApply(optional -> {
+                return optional.orElseThrow(() -> UserDoesntExistException.stackless(email));
             });
-
-            return applicationUser.unwrap()
-                .orElse(null);
-        }, bridge.getWorker()).thenApply(user -> {
-            if (user == null) {
-                throw new UserDoesntExistException(email);
-            }
-
-            return new PteroUserImpl(
-                bridge,
-                user.getId(),
-                user.getUserName(),
-                email,
-                null,
-                null
-            );
         });
     }
 
     @Override
     public CompletableFuture<PteroUser> findUserBySnowflake(@NotNull String snowflake) {
-        PteroLogger.debug("Searching for user by snowflake: %s", snowflake);
-
-        return CompletableFuture.supplyAsync(() -> {
-            Try<ApplicationUser> catching = Try.catching(() -> {
-                return bridge.getApplication()
-                    .retrieveUserById(snowflake)
-                    .timeout(5, TimeUnit.SECONDS)
-                    .execute();
+        PteroLogger.debug("Searching for user by snowflake: {}", snowflake);
+
+        return bridge.getMetrics().time("UserRepository.findUserBySnowflake", snowflake, () -> findBySnowflake(snowflake));
+    }
+
+    @Override
+    public CompletableFuture<Optional<PteroUser>> findUserByUsernameIfPresent(@NotNull String username) {
+        PteroLogger.debug("Searching for user by username if present: {}", username);
+
+        return bridge.getMetrics().time("UserRepository.findUserByUsernameIfPresent", username, () -> findByUsername(username));
+    }
+
+    @Override
+    public CompletableFuture<Optional<PteroUser>> findUserByUUIDIfPresent(@NotNull UUID uuid) {
+        String identifier = uuid.toString();
+        PteroLogger.debug("Searching for user by UUID if present: {}", identifier);
+
+        return bridge.getMetrics().time("UserRepository.findUserByUUIDIfPresent", identifier, () -> findByUUID(uuid));
+    }
+
+    @Override
+    public CompletableFuture<Optional<PteroUser>> findUserByEmailIfPresent(@NotNull String email) {
+        PteroLogger.debug("Searching for user by email if present: {}", email);
+
+        return bridge.getMetrics().time("UserRepository.findUserByEmailIfPresent", email, () -> findByEmail(email));
+    }
+
+    @Override
+    public CompletableFuture<Optional<PteroUser>> findUserBySnowflakeIfPresent(@NotNull String snowflake) {
+        PteroLogger.debug("Searching for user by snowflake if present: {}", snowflake);
+
+        return bridge.getMetrics().time("UserRepository.findUserBySnowflakeIfPresent", snowflake, () -> {
+            return Misses.recover(findBySnowflake(snowflake), UserDoesntExistException.class);
+        });
+    }
+
+    private CompletableFuture<Optional<PteroUser>> findByUsername(@NotNull String username) {
+        return bridge.getLookup()
+            .retrieveUserByUsername(username)
+            .thenApply(optional -> optional.map(user -> {
+                return new PteroUserImpl(
+                    bridge,
+                    user.getId(),
+                    username,
+                    user.getEmail(),
+                    null,
+                    null
+                );
+            }));
+    }
+
+    private CompletableFuture<Optional<PteroUser>> findByEmail(@NotNull String email) {
+        return bridge.getLookup()
+            .retrieveUserByEmail(email)
+            .thenApply(optional -> optional.map(user -> {
+                return new PteroUserImpl(
+                    bridge,
+                    user.getId(),
+                    user.getUserName(),
+                    email,
+                    null,
+                    null
+                );
+            }));
+    }
+
+    private CompletableFuture<PteroUser> findBySnowflake(@NotNull String snowflake) {
+        return bridge.getLookup()
+            .retrieveUserById(snowflake)
+            .thenApply(user -> {
+                return new PteroUserImpl(
+                    bridge,
+                    user.getId(),
+                    user.getUserName(),
+                    user.getEmail(),
+                    null,
+                    null
+                );
             });
+    }
+
+    private CompletableFuture<Optional<PteroUser>> findByUUID(@NotNull UUID uuid) {
+        UserIndex index = bridge.getUserIndex();
+        if (!index.isEnabled()) {
+            return scanByUUID(uuid);
+        }
+
+        if (!index.isWarm()) {
+            // Wait for the index instead of scanning the users twice, it most likely knows the user
+            return index.rebuild()
+                .thenCompose(ignored -> findIndexed(uuid));
+        }
+
+        return findIndexed(uuid);
+    }
+
+    /**
+     * Answers from the index alone, which is kept fresh by the binder's own changes and its periodic rebuilds,
+     * so a miss, such as the first join of a player, costs no request at all.
+     */
+    private CompletableFuture<Optional<PteroUser>> findIndexed(@NotNull UUID uuid) {
+        String userId = bridge.getUserIndex().find(uuid);
+        if (userId == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
 
-            catching.catching(NotFoundException.class, e -> {
-                throw new UserDoesntExistException(snowflake);
+        return confirmByUUID(uuid, userId);
+    }
+
+    private CompletableFuture<Optional<PteroUser>> confirmByUUID(@NotNull UUID uuid, @NotNull String userId) {
+        String fromShort = Users.fromShort(uuid);
+        UserIndex index = bridge.getUserIndex();
+
+        // Confirm the candidate, the account may have changed since it was indexed
+        return Misses.recover(bridge.getLookup().retrieveUserById(userId), UserDoesntExistException.class)
+            .thenCompose(optional -> {
+                ApplicationUser user = optional.orElse(null);
+                if (user == null || !user.getFirstName().startsWith(fromShort)) {
+                    // Untracked, so the next candidate of the short UUID is tried, if there's any
+                    index.untrack(userId);
+                    return findIndexed(uuid);
+                }
+
+                index.track(uuid, user.getId());
+                return CompletableFuture.completedFuture(Optional.of(new PteroUserImpl(
+                    bridge,
+                    user.getId(),
+                    user.getUserName(),
+                    user.getEmail(),
+                    uuid,
+                    null
+                )));
             });
+    }
 
-            return catching.unwrap();
-        }, bridge.getWorker()).thenApply(user -> {
-            return new PteroUserImpl(
-                bridge,
-                user.getId(),
-                user.getUserName(),
-                user.getEmail(),
-                null,
-                null
-            );
+    @Override
+    public CompletableFuture<PteroUser> deleteUser(@NotNull PteroUser user) {
+        PteroLogger.debug("Deleting user: {}", user.getName());
+
+        return bridge.getMetrics().time("UserRepository.deleteUser", user.getName(), () -> {
+            return bridge.getLookup()
+                .retrieveUserByUsername(user.getName())
+                .thenAcceptAsync(optional -> {
+                    ApplicationUser applicationUser = optional.orElse(null);
+
+                    if (applicationUser == null) {
+                        throw UserDoesntExistException.stackless(user.getName());
+                    }
+
+                    bridge.executeApplication(
+                        bridge.getApplication()
+                            .getUserManager()
+                            .deleteUser(applicationUser)
+                    );
+
+                    bridge.getUserIndex().untrack(applicationUser.getId());
+                }, bridge.getWorker()).thenApply(unused -> user);
         });
     }
 
     @Override
-    public CompletableFuture<PteroUser> deleteUser(@NotNull PteroUser user) {
-        PteroLogger.debug("Deleting user: %s", user.getName());
-
-        return CompletableFuture.runAsync(() -> {
-            Try<Optional<ApplicationUser>> catching = Try.catching(() -> {
-                return bridge.getApplication()
-                    .retrieveUsersByUsername(user.getName(), true)
-                    .timeout(5, TimeUnit.SECONDS)
-                    .execute()
-                    .stream()
-                    .findFirst();
-            });
+    public @NotNull Flow.Publisher<PteroUser> streamUsers() {
+        PteroLogger.debug("Streaming all users");
 
-            catching.catching(NotFoundException.class, e -> {
-                throw new UserDoesntExistException(user.getName());
-            });
+        return new PagedPublisher<>(PAGE_SIZE, page -> bridge.supplyAsync(() -> {
+            return bridge.executeApplication(
+                bridge.getApplication()
+                    .retrieveUsers()
+                    .skipTo(page)
+                    .limit(PAGE_SIZE)
+            ).stream()
+                .map(user -> (PteroUser) new PteroUserImpl(
+                    bridge,
+                    user.getId(),
+                    user.getUserName(),
+                    user.getEmail(),
+                    null,
+                    null
+                )).collect(Collectors.toList());
+        }));
+    }
+
+    private CompletableFuture<Optional<PteroUser>> scanByUUID(@NotNull UUID uuid) {
+        String fromShort = Users.fromShort(uuid);
 
-            ApplicationUser applicationUser = catching.unwrap()
-                .orElse(null);
-
-            if (applicationUser == null) {
-                throw new UserDoesntExistException(user.getName());
-            }
-            bridge.getApplication()
-                .getUserManager()
-                .deleteUser(applicationUser)
-                .execute(true);
-        }, bridge.getWorker()).thenApply(unused -> user);
+        return bridge.getScanner()
+            .scanAll("users by UUID", page -> {
+                return bridge.executeApplication(
+                    bridge.getApplication()
+                        .retrieveUsers()
+                        .skipTo(page)
+                        .limit(InventoryScanner.PAGE_SIZE)
+                ).stream()
+                    .filter(target -> target.getFirstName().startsWith(fromShort))
+                    .collect(Collectors.toList());
+            }).thenApply(users -> {
+                if (users.isEmpty()) {
+                    return Optional.empty();
+                }
+
+                ApplicationUser user = users.get(0);
+
+                bridge.getUserIndex().track(uuid, user.getId());
+                return Optional.of(new PteroUserImpl(
+                    bridge,
+                    user.getId(),
+                    user.getUserName(),
+                    user.getEmail(),
+                    uuid,
+                    null
+                ));
+            });
     }
 }
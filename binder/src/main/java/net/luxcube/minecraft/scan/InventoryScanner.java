@@ -0,0 +1,152 @@
+package net.luxcube.minecraft.scan;
+
+import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Scans a whole paginated endpoint fetching several pages at once.
+ * The panel's pagination doesn't expose the total through Pterodactyl4J, so pages are
+ * fetched in waves of {@link net.luxcube.minecraft.options.PteroOptions#getScanParallelism()}
+ * until one of them comes back short.
+ * Every page goes through the bridge's worker and HTTP client, so scans respect
+ * both the concurrency cap and the rate limit.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class InventoryScanner {
+
+    public static final int PAGE_SIZE = 100;
+
+    private final PteroBridgeVO bridge;
+
+    private final LongAdder scans = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder pages = new LongAdder();
+    private final LongAdder entries = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+
+    private volatile long lastDuration;
+
+    public InventoryScanner(@NotNull PteroBridgeVO bridge) {
+        this.bridge = bridge;
+    }
+
+    /**
+     * Fetches every page and collects their entries in the page order.
+     *
+     * @param name    The name of the scan, used for logging.
+     * @param fetcher Fetches the page with the given index, starting at one. It's called from the worker.
+     * @return The future of all entries.
+     */
+    public <T> CompletableFuture<List<T>> scanAll(@NotNull String name, @NotNull IntFunction<List<T>> fetcher) {
+        List<T> all = new ArrayList<>();
+
+        return scan(name, fetcher, all::addAll)
+            .thenApply(ignored -> all);
+    }
+
+    /**
+     * Fetches every page, handing them to the consumer in the page order as soon as they are available.
+     * The consumer is never called concurrently.
+     *
+     * @param name     The name of the scan, used for logging.
+     * @param fetcher  Fetches the page with the given index, starting at one. It's called from the worker.
+     * @param consumer The consumer of each page.
+     * @return The future completed once all pages were consumed.
+     */
+    public <T> CompletableFuture<Void> scan(
+        @NotNull String name,
+        @NotNull IntFunction<List<T>> fetcher,
+        @NotNull Consumer<List<T>> consumer
+    ) {
+        long start = System.nanoTime();
+
+        PteroLogger.debug("Starting {} scan", name);
+
+        // Scans run on their own, so their requests aren't attributed to the operation that started them
+        return bridge.getMetrics()
+            .time("InventoryScanner.scan", () -> wave(1, fetcher, consumer))
+            .whenComplete((fetched, throwable) -> {
+                long elapsed = System.nanoTime() - start;
+
+                scans.increment();
+                totalTime.add(elapsed);
+                lastDuration = elapsed;
+
+                if (throwable != null) {
+                    failures.increment();
+                    PteroLogger.debug("The {} scan failed after {} ms: {}", name, elapsed / 1_000_000, throwable.getMessage());
+                    return;
+                }
+
+                PteroLogger.debug("The {} scan fetched {} pages in {} ms", name, fetched, elapsed / 1_000_000);
+            }).thenApply(fetched -> null);
+    }
+
+    public long getScans() {
+        return scans.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getPagesFetched() {
+        return pages.sum();
+    }
+
+    public long getEntriesFetched() {
+        return entries.sum();
+    }
+
+    public @NotNull Duration getLastScanDuration() {
+        return Duration.ofNanos(lastDuration);
+    }
+
+    public @NotNull Duration getTotalScanTime() {
+        return Duration.ofNanos(totalTime.sum());
+    }
+
+    private <T> CompletableFuture<Integer> wave(
+        int page,
+        @NotNull IntFunction<List<T>> fetcher,
+        @NotNull Consumer<List<T>> consumer
+    ) {
+        int parallelism = Math.max(1, bridge.getOptions().getScanParallelism());
+
+        List<CompletableFuture<List<T>>> wave = new ArrayList<>(parallelism);
+        for (int index = 0; index < parallelism; index++) {
+            int target = page + index;
+            wave.add(bridge.supplyAsync(() -> fetcher.apply(target)));
+        }
+
+        return CompletableFuture.allOf(wave.toArray(CompletableFuture[]::new))
+            .thenCompose(ignored -> {
+                for (CompletableFuture<List<T>> future : wave) {
+                    List<T> fetched = future.join();
+
+                    pages.increment();
+                    entries.add(fetched.size());
+
+                    // Pages past the end come back empty, stop at the first short one
+                    consumer.accept(fetched);
+                    if (fetched.size() < PAGE_SIZE) {
+                        return CompletableFuture.completedFuture(page + wave.indexOf(future));
+                    }
+                }
+
+                return wave(page + parallelism, fetcher, consumer);
+            });
+    }
+
+}
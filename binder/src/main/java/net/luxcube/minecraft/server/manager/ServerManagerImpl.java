@@ -1,15 +1,11 @@
 package net.luxcube.minecraft.server.manager;
 
 import com.mattmalec.pterodactyl4j.DataType;
-import com.mattmalec.pterodactyl4j.application.entities.ApplicationServer;
 import com.mattmalec.pterodactyl4j.application.managers.ServerBuildManager;
-import com.mattmalec.pterodactyl4j.exceptions.NotFoundException;
 import lombok.RequiredArgsConstructor;
-import net.luxcube.minecraft.exception.ServerDoesntExistException;
 import net.luxcube.minecraft.logger.PteroLogger;
 import net.luxcube.minecraft.manager.ServerManager;
 import net.luxcube.minecraft.server.PteroServer;
-import net.luxcube.minecraft.util.Try;
 import net.luxcube.minecraft.vo.PteroBridgeVO;
 
 import java.util.concurrent.CompletableFuture;
@@ -30,103 +26,71 @@ public class ServerManagerImpl implements ServerManager {
 
     @Override
     public CompletableFuture<Void> setCPU(int cpu) {
-        PteroLogger.debug("Setting CPU to %d", cpu);
+        PteroLogger.debug("Setting CPU to {}", cpu);
 
-        return CompletableFuture.supplyAsync(() -> {
-            Try<ApplicationServer> catching = Try.catching(() -> {
-                return bridge.getApplication()
-                    .retrieveServerById(pteroServer.getInternalId())
-                    .execute();
-            });
+        return bridge.getMetrics().time("ServerManager.setCPU", pteroServer.getIdentifier(), () -> {
+            return bridge.getLookup()
+                .retrieveApplicationServer(pteroServer.getInternalId())
+                .thenAcceptAsync(applicationServer -> {
+                    ServerBuildManager buildManager = applicationServer.getBuildManager();
 
-            catching.catching(NotFoundException.class, e -> {
-                throw new ServerDoesntExistException(pteroServer.getIdentifier());
-            });
+                    buildManager.setCPU(cpu);
 
-            return catching.unwrap();
-        }, bridge.getWorker()).thenAccept(applicationServer -> {
-            ServerBuildManager buildManager = applicationServer.getBuildManager();
-
-            buildManager.setCPU(cpu);
-
-            buildManager.execute();
+                    bridge.executeApplication(buildManager);
+                }, bridge.getWorker());
         });
     }
 
     @Override
     public CompletableFuture<Void> setRam(int ram) {
-        PteroLogger.debug("Setting RAM to %d", ram);
-
-        return CompletableFuture.supplyAsync(() -> {
-            Try<ApplicationServer> catching = Try.catching(() -> {
-                return bridge.getApplication()
-                    .retrieveServerById(pteroServer.getInternalId())
-                    .execute();
-            });
-
-            catching.catching(NotFoundException.class, e -> {
-                throw new ServerDoesntExistException(pteroServer.getIdentifier());
-            });
+        PteroLogger.debug("Setting RAM to {}", ram);
 
-            return catching.unwrap();
-        }, bridge.getWorker()).thenAccept(applicationServer -> {
-            ServerBuildManager buildManager = applicationServer.getBuildManager();
+        return bridge.getMetrics().time("ServerManager.setRam", pteroServer.getIdentifier(), () -> {
+            return bridge.getLookup()
+                .retrieveApplicationServer(pteroServer.getInternalId())
+                .thenAcceptAsync(applicationServer -> {
+                    ServerBuildManager buildManager = applicationServer.getBuildManager();
 
-            buildManager.setMemory(ram, DataType.MB);
+                    buildManager.setMemory(ram, DataType.MB);
 
-            buildManager.execute();
+                    bridge.executeApplication(buildManager);
+                }, bridge.getWorker());
         });
     }
 
     @Override
     public CompletableFuture<Void> setDisk(int disk) {
-        PteroLogger.debug("Setting DISK to %d", disk);
+        PteroLogger.debug("Setting DISK to {}", disk);
 
-        return CompletableFuture.supplyAsync(() -> {
-            Try<ApplicationServer> catching = Try.catching(() -> {
-                return bridge.getApplication()
-                    .retrieveServerById(pteroServer.getInternalId())
-                    .execute();
-            });
+        return bridge.getMetrics().time("ServerManager.setDisk", pteroServer.getIdentifier(), () -> {
+            return bridge.getLookup()
+                .retrieveApplicationServer(pteroServer.getInternalId())
+                .thenAcceptAsync(applicationServer -> {
+                    ServerBuildManager buildManager = applicationServer.getBuildManager();
 
-            catching.catching(NotFoundException.class, e -> {
-                throw new ServerDoesntExistException(pteroServer.getIdentifier());
-            });
+                    buildManager.setDisk(disk, DataType.MB);
 
-            return catching.unwrap();
-        }, bridge.getWorker()).thenAccept(applicationServer -> {
-            ServerBuildManager buildManager = applicationServer.getBuildManager();
-
-            buildManager.setDisk(disk, DataType.MB);
-
-            buildManager.execute();
+                    bridge.executeApplication(buildManager);
+                }, bridge.getWorker());
         });
     }
 
     @Override
     public CompletableFuture<Void> bulkResource(int cpu, int ram, int disk) {
-        PteroLogger.debug("Setting CPU to %d, RAM to %d and DISK to %d", cpu, ram, disk);
-
-        return CompletableFuture.supplyAsync(() -> {
-            Try<ApplicationServer> catching = Try.catching(() -> {
-                return bridge.getApplication()
-                    .retrieveServerById(pteroServer.getInternalId())
-                    .execute();
-            });
-
-            catching.catching(NotFoundException.class, e -> {
-                throw new ServerDoesntExistException(pteroServer.getIdentifier());
-            });
+        PteroLogger.debug("Setting CPU to {}, RAM to {} and DISK to {}", cpu, ram, disk);
 
-            return catching.unwrap();
-        }, bridge.getWorker()).thenAccept(applicationServer -> {
-            ServerBuildManager buildManager = applicationServer.getBuildManager();
+        return bridge.getMetrics().time("ServerManager.bulkResource", pteroServer.getIdentifier(), () -> {
+            return bridge.getLookup()
+                .retrieveApplicationServer(pteroServer.getInternalId())
+                .thenAcceptAsync(applicationServer -> {
+                    ServerBuildManager buildManager = applicationServer.getBuildManager();
 
-            buildManager.setCPU(cpu);
-            buildManager.setMemory(ram, DataType.MB);
-            buildManager.setDisk(disk, DataType.MB);
+                    buildManager.setCPU(cpu);
+                    buildManager.setMemory(ram, DataType.MB);
+                    buildManager.setDisk(disk, DataType.MB);
 
-            buildManager.execute();
+                    bridge.executeApplication(buildManager);
+                }, bridge.getWorker());
         });
     }
 }
@@ -0,0 +1,80 @@
+package net.luxcube.minecraft.server.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import net.luxcube.minecraft.server.status.StatusType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+@RequiredArgsConstructor
+public class ServerSnapshotImpl implements ServerSnapshot {
+
+    private final StatusType status;
+    private final boolean suspended;
+
+    private final long memoryBytes;
+    private final double cpuAbsolute;
+    private final long diskBytes;
+
+    private final long networkIngress;
+    private final long networkEgress;
+
+    private final long uptime;
+
+    @Override
+    public @NotNull StatusType getStatus() {
+        return status;
+    }
+
+    @Override
+    public boolean isSuspended() {
+        return suspended;
+    }
+
+    @Override
+    public int getMemory() {
+        return Math.max(0, (int) memoryBytes);
+    }
+
+    @Override
+    public int getDisk() {
+        return Math.max(0, (int) diskBytes);
+    }
+
+    @Override
+    public int getCPU() {
+        return Math.max(0, (int) cpuAbsolute);
+    }
+
+    @Override
+    public long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    @Override
+    public long getDiskBytes() {
+        return diskBytes;
+    }
+
+    @Override
+    public double getCPUAbsolute() {
+        return cpuAbsolute;
+    }
+
+    @Override
+    public long getNetworkIngress() {
+        return networkIngress;
+    }
+
+    @Override
+    public long getNetworkEgress() {
+        return networkEgress;
+    }
+
+    @Override
+    public long getUptime() {
+        return uptime;
+    }
+}
@@ -0,0 +1,80 @@
+package net.luxcube.minecraft.server.snapshot;
+
+import net.luxcube.minecraft.exception.ServerDoesntExistException;
+import net.luxcube.minecraft.metrics.HttpCallInterceptor;
+import net.luxcube.minecraft.server.status.StatusType;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
+import okhttp3.Call;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.Blocking;
+import org.jetbrains.annotations.NotNull;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Reads the resources endpoint of the client API directly by identifier,
+ * skipping the server fetch Pterodactyl4J needs before {@code retrieveUtilization()}.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class SnapshotRequest {
+
+    private static final int NOT_FOUND = 404;
+
+    @Blocking
+    public static @NotNull ServerSnapshot execute(@NotNull PteroBridgeVO bridge, @NotNull String identifier) {
+        Request request = HttpCallInterceptor.tag(new Request.Builder())
+            .url(bridge.getAddress() + "api/client/servers/" + identifier + "/resources")
+            .header("Authorization", "Bearer " + bridge.getClientKey())
+            .header("Accept", "application/json")
+            .get()
+            .build();
+
+        Call call = bridge.getClientHttpClient()
+            .newCall(request);
+
+        try (Response response = bridge.executeClient(call)) {
+            if (response.code() == NOT_FOUND) {
+                throw ServerDoesntExistException.stackless(identifier);
+            }
+
+            ResponseBody body = response.body();
+            if (!response.isSuccessful() || body == null) {
+                throw new IOException("The panel answered " + response.code() + " for the resources of " + identifier);
+            }
+
+            JSONObject attributes = new JSONObject(body.string())
+                .getJSONObject("attributes");
+
+            JSONObject resources = attributes.getJSONObject("resources");
+
+            return new ServerSnapshotImpl(
+                parseState(attributes.optString("current_state")),
+                attributes.optBoolean("is_suspended"),
+                resources.optLong("memory_bytes"),
+                resources.optDouble("cpu_absolute", 0),
+                resources.optLong("disk_bytes"),
+                resources.optLong("network_rx_bytes"),
+                resources.optLong("network_tx_bytes"),
+                resources.optLong("uptime")
+            );
+        } catch (@NotNull IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static @NotNull StatusType parseState(@NotNull String state) {
+        return switch (state) {
+            case "starting" -> StatusType.STARTING;
+            case "running" -> StatusType.ONLINE;
+            case "stopping" -> StatusType.STOPPING;
+            default -> StatusType.OFFLINE;
+        };
+    }
+
+}
@@ -0,0 +1,177 @@
+package net.luxcube.minecraft.stream;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Publishes every entry of a paginated endpoint, honouring the subscriber's demand.
+ * Pages are only fetched once there's demand, and the next page is fetched while
+ * the current one is consumed, so at most two pages are kept in memory per subscriber.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class PagedPublisher<T> implements Flow.Publisher<T> {
+
+    private final int pageSize;
+    private final IntFunction<CompletableFuture<List<T>>> fetcher;
+
+    /**
+     * @param pageSize The size of each page, a shorter page is understood as the last one.
+     * @param fetcher  Fetches the page with the given index, starting at one.
+     */
+    public PagedPublisher(int pageSize, @NotNull IntFunction<CompletableFuture<List<T>>> fetcher) {
+        this.pageSize = pageSize;
+        this.fetcher = fetcher;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        subscriber.onSubscribe(new PageSubscription(subscriber));
+    }
+
+    private class PageSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        // Signalled while draining, so it's never sent at the same time as an item
+        private volatile Throwable error;
+
+        // Only touched while draining
+        private Iterator<T> current = Collections.emptyIterator();
+        private CompletableFuture<List<T>> next;
+
+        private int page = 1;
+        private boolean last, done;
+
+        private PageSubscription(@NotNull Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (error == null) {
+                    error = new IllegalArgumentException("The demand must be positive, got " + n);
+                }
+
+                drain();
+                return;
+            }
+
+            requested.getAndAccumulate(n, (previous, added) -> {
+                long sum = previous + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                emit();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (!cancelled && !done) {
+                Throwable failure = error;
+                if (failure != null) {
+                    done = true;
+                    subscriber.onError(failure);
+                    return;
+                }
+
+                if (current.hasNext()) {
+                    if (requested.get() == 0) {
+                        return;
+                    }
+
+                    T item = current.next();
+                    if (requested.get() != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+
+                    subscriber.onNext(item);
+                    continue;
+                }
+
+                if (next == null) {
+                    if (last) {
+                        done = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+
+                    if (requested.get() == 0) {
+                        return;
+                    }
+
+                    next = fetch();
+                }
+
+                if (!next.isDone()) {
+                    next.whenComplete((ignored, throwable) -> drain());
+                    return;
+                }
+
+                List<T> items;
+                try {
+                    items = next.join();
+                } catch (@NotNull CompletionException | CancellationException e) {
+                    done = true;
+                    subscriber.onError(e.getCause() == null ? e : e.getCause());
+                    return;
+                } finally {
+                    next = null;
+                }
+
+                last = items.size() < pageSize;
+                current = items.iterator();
+
+                // Fetch the next page while this one is consumed
+                if (!last) {
+                    next = fetch();
+                }
+            }
+        }
+
+        private @NotNull CompletableFuture<List<T>> fetch() {
+            try {
+                return fetcher.apply(page++);
+            } catch (@NotNull Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+    }
+
+}
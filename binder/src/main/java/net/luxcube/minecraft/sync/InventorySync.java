@@ -0,0 +1,295 @@
+package net.luxcube.minecraft.sync;
+
+import com.mattmalec.pterodactyl4j.application.entities.ApplicationServer;
+import com.mattmalec.pterodactyl4j.application.entities.ApplicationUser;
+import com.mattmalec.pterodactyl4j.application.entities.Node;
+import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.scan.InventoryScanner;
+import net.luxcube.minecraft.server.PteroServer;
+import net.luxcube.minecraft.user.PteroUser;
+import net.luxcube.minecraft.user.PteroUserImpl;
+import net.luxcube.minecraft.util.Servers;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Keeps a local view of the panel's nodes, servers and users, and reports what changed on every sync.
+ * Entries are compared by id and update date, so only the servers that actually changed,
+ * or whose node changed, have their address and node resolved again.
+ * A changed node is remembered until a server sync completes, so a failed sync doesn't leave its servers stale.
+ * The changes also feed the server cache and the owner and user indexes.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class InventorySync {
+
+    private final PteroBridgeVO bridge;
+
+    private final Set<InventoryListener> listeners = new CopyOnWriteArraySet<>();
+
+    // Only touched by the running sync
+    private final Map<String, NodeRecord> nodes = new HashMap<>();
+    private final Map<String, ServerRecord> servers = new HashMap<>();
+    private final Map<String, UserRecord> users = new HashMap<>();
+
+    // The changed nodes whose servers weren't resolved again yet, kept until a server sync completes
+    private final Set<String> changedNodes = new HashSet<>();
+
+    private CompletableFuture<Void> running;
+
+    public InventorySync(@NotNull PteroBridgeVO bridge) {
+        this.bridge = bridge;
+    }
+
+    public void registerListener(@NotNull InventoryListener listener) {
+        listeners.add(listener);
+    }
+
+    public void unregisterListener(@NotNull InventoryListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Starts a sync, unless one is already running.
+     *
+     * @return The future completed once the running sync finishes.
+     */
+    public synchronized CompletableFuture<Void> sync() {
+        if (running != null && !running.isDone()) {
+            return running;
+        }
+
+        long start = System.nanoTime();
+        Counter counter = new Counter();
+
+        return running = syncNodes(counter)
+            .thenCompose(ignored -> syncServers(counter))
+            .thenCompose(ignored -> syncUsers(counter))
+            .whenComplete((ignored, throwable) -> {
+                if (throwable != null) {
+                    PteroLogger.severe("Couldn't sync the inventory", throwable);
+                    return;
+                }
+
+                PteroLogger.debug(
+                    "Inventory synced in {} ms with {} changes",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    counter.changes
+                );
+            });
+    }
+
+    private CompletableFuture<Void> syncNodes(@NotNull Counter counter) {
+        Set<String> seen = new HashSet<>();
+
+        return bridge.getScanner()
+            .scan("node sync", page -> {
+                return bridge.executeApplication(
+                    bridge.getApplication()
+                        .retrieveNodes()
+                        .skipTo(page)
+                        .limit(InventoryScanner.PAGE_SIZE)
+                );
+            }, (List<Node> page) -> {
+                for (Node node : page) {
+                    seen.add(node.getId());
+
+                    NodeRecord previous = nodes.get(node.getId());
+                    if (previous != null && Objects.equals(previous.updatedAt(), node.getUpdatedDate())) {
+                        continue;
+                    }
+
+                    nodes.put(node.getId(), new NodeRecord(node.getName(), node.getUpdatedDate()));
+
+                    if (previous != null) {
+                        // The name or the allocations may have changed, so its servers must be resolved again
+                        bridge.getNodeCache().invalidate(node.getId());
+                        changedNodes.add(node.getId());
+                    }
+
+                    counter.changes++;
+                    publish(listener -> listener.onNodeChange(
+                        previous == null ? ChangeType.CREATED : ChangeType.UPDATED,
+                        node.getId(),
+                        node.getName()
+                    ));
+                }
+            }).thenRun(() -> {
+                for (String nodeId : removed(nodes.keySet(), seen)) {
+                    NodeRecord previous = nodes.remove(nodeId);
+                    bridge.getNodeCache().invalidate(nodeId);
+
+                    counter.changes++;
+                    publish(listener -> listener.onNodeChange(ChangeType.DELETED, nodeId, previous.name()));
+                }
+            });
+    }
+
+    private CompletableFuture<Void> syncServers(@NotNull Counter counter) {
+        Set<String> seen = new HashSet<>();
+
+        return bridge.getScanner()
+            .scan("server sync", page -> {
+                return bridge.executeApplication(
+                    bridge.getApplication()
+                        .retrieveServers()
+                        .skipTo(page)
+                        .limit(InventoryScanner.PAGE_SIZE)
+                );
+            }, (List<ApplicationServer> page) -> {
+                for (ApplicationServer applicationServer : page) {
+                    seen.add(applicationServer.getId());
+
+                    ServerRecord previous = servers.get(applicationServer.getId());
+                    if (previous != null
+                        && Objects.equals(previous.updatedAt(), applicationServer.getUpdatedDate())
+                        && !changedNodes.contains(previous.nodeId())) {
+                        continue;
+                    }
+
+                    PteroServer server = Servers.toPteroServer(bridge, applicationServer);
+                    servers.put(applicationServer.getId(), new ServerRecord(
+                        server,
+                        applicationServer.getOwnerId(),
+                        applicationServer.getNodeId(),
+                        applicationServer.getUpdatedDate()
+                    ));
+
+                    if (previous != null) {
+                        bridge.getServerCache().invalidate(previous.server());
+                    }
+
+                    bridge.getServerCache().put(server);
+                    bridge.getOwnerIndex().track(applicationServer.getOwnerId(), server);
+
+                    counter.changes++;
+                    publish(listener -> listener.onServerChange(
+                        previous == null ? ChangeType.CREATED : ChangeType.UPDATED,
+                        server
+                    ));
+                }
+            }).thenRun(() -> {
+                for (String id : removed(servers.keySet(), seen)) {
+                    PteroServer server = servers.remove(id)
+                        .server();
+
+                    bridge.getServerCache().invalidate(server);
+                    bridge.getOwnerIndex().untrack(server);
+
+                    counter.changes++;
+                    publish(listener -> listener.onServerChange(ChangeType.DELETED, server));
+                }
+
+                // Every server was resolved again, the node changes no longer need to be carried
+                changedNodes.clear();
+            });
+    }
+
+    private CompletableFuture<Void> syncUsers(@NotNull Counter counter) {
+        Set<String> seen = new HashSet<>();
+
+        return bridge.getScanner()
+            .scan("user sync", page -> {
+                return bridge.executeApplication(
+                    bridge.getApplication()
+                        .retrieveUsers()
+                        .skipTo(page)
+                        .limit(InventoryScanner.PAGE_SIZE)
+                );
+            }, (List<ApplicationUser> page) -> {
+                for (ApplicationUser applicationUser : page) {
+                    seen.add(applicationUser.getId());
+
+                    UserRecord previous = users.get(applicationUser.getId());
+                    if (previous != null && Objects.equals(previous.updatedAt(), applicationUser.getUpdatedDate())) {
+                        continue;
+                    }
+
+                    PteroUser user = new PteroUserImpl(
+                        bridge,
+                        applicationUser.getId(),
+                        applicationUser.getUserName(),
+                        applicationUser.getEmail(),
+                        null,
+                        null
+                    );
+
+                    users.put(applicationUser.getId(), new UserRecord(user, applicationUser.getUpdatedDate()));
+                    bridge.getUserIndex().trackAccount(applicationUser.getFirstName(), applicationUser.getId());
+
+                    counter.changes++;
+                    publish(listener -> listener.onUserChange(
+                        previous == null ? ChangeType.CREATED : ChangeType.UPDATED,
+                        user
+                    ));
+                }
+            }).thenRun(() -> {
+                for (String id : removed(users.keySet(), seen)) {
+                    PteroUser user = users.remove(id)
+                        .user();
+
+                    bridge.getUserIndex().untrack(id);
+
+                    counter.changes++;
+                    publish(listener -> listener.onUserChange(ChangeType.DELETED, user));
+                }
+            });
+    }
+
+    private void publish(@NotNull Consumer<InventoryListener> event) {
+        for (InventoryListener listener : listeners) {
+            try {
+                event.accept(listener);
+            } catch (@NotNull Exception e) {
+                PteroLogger.severe("An inventory listener failed", e);
+            }
+        }
+    }
+
+    private static @NotNull List<String> removed(@NotNull Set<String> known, @NotNull Set<String> seen) {
+        List<String> removed = new ArrayList<>();
+        for (String id : known) {
+            if (!seen.contains(id)) {
+                removed.add(id);
+            }
+        }
+
+        return removed;
+    }
+
+    private static class Counter {
+
+        private int changes;
+
+    }
+
+    private record NodeRecord(@NotNull String name, @Nullable OffsetDateTime updatedAt) {
+    }
+
+    private record ServerRecord(
+        @NotNull PteroServer server,
+        @NotNull String ownerId,
+        @NotNull String nodeId,
+        @Nullable OffsetDateTime updatedAt
+    ) {
+    }
+
+    private record UserRecord(@NotNull PteroUser user, @Nullable OffsetDateTime updatedAt) {
+    }
+
+}
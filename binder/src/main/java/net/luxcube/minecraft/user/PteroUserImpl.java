@@ -1,24 +1,17 @@
 package net.luxcube.minecraft.user;
 
-import com.mattmalec.pterodactyl4j.application.entities.ApplicationUser;
-import com.mattmalec.pterodactyl4j.exceptions.NotFoundException;
 import net.luxcube.minecraft.exception.UserDoesntExistException;
 import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.metrics.BridgeMetrics;
 import net.luxcube.minecraft.server.PteroServer;
-import net.luxcube.minecraft.server.PteroServerImpl;
-import net.luxcube.minecraft.util.Pair;
 import net.luxcube.minecraft.util.Servers;
-import net.luxcube.minecraft.util.Try;
 import net.luxcube.minecraft.vo.PteroBridgeVO;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -79,111 +72,77 @@ public class PteroUserImpl implements PteroUser {
 
     @Override
     public @NotNull CompletableFuture<List<PteroServer>> getServers() {
-        PteroLogger.debug("Searching servers by user: %s", name);
-
-        return CompletableFuture.supplyAsync(() -> {
-            return bridge.getApplication()
-                .retrieveServers()
-                .all()
-                .execute();
-        }, bridge.getWorker()).thenApply(servers -> {
-            if (servers.isEmpty()) {
-                return Collections.emptyList();
+        PteroLogger.debug("Searching servers by user: {}", name);
+
+        return bridge.getMetrics().time("PteroUser.getServers", name, () -> {
+            List<PteroServer> indexed = bridge.getOwnerIndex().getServers(id);
+            if (indexed != null) {
+                BridgeMetrics.recordCacheHit();
+                return CompletableFuture.completedFuture(indexed);
             }
 
-            return servers.stream()
-                .filter(server -> server.getOwnerId().equals(id))
-                .map(server -> {
-                    Pair<String, String> addressAndNode = Servers.getAddressAndNode(server);
-
-                    return new PteroServerImpl(
-                        bridge,
-                        server.getIdentifier(),
-                        server.getId(),
-                        addressAndNode.first(),
-                        addressAndNode.second(),
-                        server.getName(),
-                        server.getUUID()
-                    );
-                }).collect(Collectors.toUnmodifiableList());
+            // Warm the index up for the next calls, meanwhile let the panel filter them
+            bridge.getOwnerIndex().rebuild();
+
+            return bridge.getLookup()
+                .retrieveUserById(id)
+                .thenApplyAsync(user -> {
+                    return bridge.executeApplication(user.retrieveServers())
+                        .stream()
+                        .map(server -> Servers.toPteroServer(bridge, server))
+                        .collect(Collectors.toUnmodifiableList());
+                }, bridge.getWorker());
         });
     }
 
     @Override
     public CompletableFuture<Void> setName(@NotNull String name) {
-        PteroLogger.debug("Setting user name: %s", name);
-
-        return CompletableFuture.runAsync(() -> {
-            Try<Optional<ApplicationUser>> catching = Try.catching(() -> {
-                return bridge.getApplication()
-                    .retrieveUsersByEmail(email, true)
-                    .timeout(5, TimeUnit.SECONDS)
-                    .execute()
-                    .stream()
-                    .findFirst();
-            });
-
-            catching.catching(NotFoundException.class, e -> {
-                throw new UserDoesntExistException(this.name);
-            });
-
-            catching.unwrap()
-                .orElseThrow(() -> new UserDoesntExistException(this.name))
-                .edit()
-                .setUserName(name)
-                .execute(true);
-        }, bridge.getWorker());
+        PteroLogger.debug("Setting user name: {}", name);
+
+        return bridge.getMetrics().time("PteroUser.setName", this.name, () -> {
+            return bridge.getLookup()
+                .retrieveUserByEmail(this.email)
+                .thenAcceptAsync(optional -> {
+                    bridge.executeApplication(
+                        optional.orElseThrow(() -> UserDoesntExistException.stackless(this.name))
+                            .edit()
+                            .setUserName(name)
+                    );
+                }, bridge.getWorker());
+        });
     }
 
     @Override
     public CompletableFuture<Void> setEmail(@NotNull String email) {
-        PteroLogger.debug("Setting user email: %s", email);
-
-        return CompletableFuture.runAsync(() -> {
-            Try<Optional<ApplicationUser>> catching = Try.catching(() -> {
-                return bridge.getApplication()
-                    .retrieveUsersByEmail(email, true)
-                    .timeout(5, TimeUnit.SECONDS)
-                    .execute()
-                    .stream()
-                    .findFirst();
-            });
-
-            catching.catching(NotFoundException.class, e -> {
-                throw new UserDoesntExistException(this.name);
-            });
-
-            catching.unwrap()
-                .orElseThrow(() -> new UserDoesntExistException(this.name))
-                .edit()
-                .setEmail(email)
-                .execute(true);
-        }, bridge.getWorker());
+        PteroLogger.debug("Setting user email: {}", email);
+
+        return bridge.getMetrics().time("PteroUser.setEmail", name, () -> {
+            return bridge.getLookup()
+                .retrieveUserByEmail(this.email)
+                .thenAcceptAsync(optional -> {
+                    bridge.executeApplication(
+                        optional.orElseThrow(() -> UserDoesntExistException.stackless(this.name))
+                            .edit()
+                            .setEmail(email)
+                    );
+                }, bridge.getWorker());
+        });
     }
 
     @Override
     public CompletableFuture<Void> setPassword(@NotNull String password) {
-        PteroLogger.debug("Setting user password: %s", password);
-
-        return CompletableFuture.runAsync(() -> {
-            Try<Optional<ApplicationUser>> catching = Try.catching(() -> {
-                return bridge.getApplication()
-                    .retrieveUsersByEmail(email, true)
-                    .timeout(5, TimeUnit.SECONDS)
-                    .execute()
-                    .stream()
-                    .findFirst();
-            });
-
-            catching.catching(NotFoundException.class, e -> {
-                throw new UserDoesntExistException(this.name);
-            });
-
-            catching.unwrap()
-                .orElseThrow(() -> new UserDoesntExistException(this.name))
-                .edit()
-                .setPassword(password)
-                .execute(true);
-        }, bridge.getWorker());
+        PteroLogger.debug("Setting user password: {}", password);
+
+        return bridge.getMetrics().time("PteroUser.setPassword", name, () -> {
+            return bridge.getLookup()
+                .retrieveUserByEmail(this.email)
+                .thenAcceptAsync(optional -> {
+                    bridge.executeApplication(
+                        optional.orElseThrow(() -> UserDoesntExistException.stackless(this.name))
+                            .edit()
+                            .setPassword(password)
+                    );
+                }, bridge.getWorker());
+        });
     }
 }
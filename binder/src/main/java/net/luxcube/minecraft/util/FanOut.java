@@ -0,0 +1,122 @@
+package net.luxcube.minecraft.util;
+
+import net.luxcube.minecraft.result.Result;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs an async task for many keys with at most a given amount in flight,
+ * collecting every outcome into a single map instead of failing on the first error.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class FanOut<K, V> {
+
+    private final Iterator<K> pending;
+    private final int total;
+
+    private final Function<K, CompletableFuture<V>> task;
+
+    private final Map<K, Result<V>> results = new ConcurrentHashMap<>();
+    private final AtomicInteger remaining;
+
+    // The tasks asked to be started and not started yet, only the caller that moves it from zero starts them
+    private final AtomicInteger starts = new AtomicInteger();
+
+    private final Collection<K> order;
+    private final CompletableFuture<Map<K, Result<V>>> future = new CompletableFuture<>();
+
+    private FanOut(@NotNull Collection<K> keys, @NotNull Function<K, CompletableFuture<V>> task) {
+        this.order = keys;
+        this.pending = keys.iterator();
+        this.total = keys.size();
+        this.task = task;
+        this.remaining = new AtomicInteger(total);
+    }
+
+    /**
+     * @param keys        The keys, duplicates are only executed once.
+     * @param parallelism The maximum of tasks in flight.
+     * @param task        The task of each key.
+     * @return The future of the outcomes, in the order of the keys.
+     */
+    public static <K, V> CompletableFuture<Map<K, Result<V>>> execute(
+        @NotNull Collection<K> keys,
+        int parallelism,
+        @NotNull Function<K, CompletableFuture<V>> task
+    ) {
+        FanOut<K, V> fanOut = new FanOut<>(new LinkedHashSet<>(keys), task);
+        if (fanOut.total == 0) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        for (int index = 0; index < Math.max(1, parallelism); index++) {
+            fanOut.next();
+        }
+
+        return fanOut.future;
+    }
+
+    /**
+     * Starts the next task. A task completing right away asks for the next one
+     * from its own callback, so the tasks are started from a loop instead of recursing.
+     */
+    private void next() {
+        if (starts.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            start();
+        } while (starts.decrementAndGet() != 0);
+    }
+
+    private void start() {
+        K key;
+        synchronized (pending) {
+            if (!pending.hasNext()) {
+                return;
+            }
+
+            key = pending.next();
+        }
+
+        CompletableFuture<V> stage;
+        try {
+            stage = task.apply(key);
+        } catch (@NotNull Exception e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+
+        stage.whenComplete((value, throwable) -> {
+            if (throwable instanceof CompletionException && throwable.getCause() != null) {
+                throwable = throwable.getCause();
+            }
+
+            results.put(key, throwable == null ? Result.success(value) : Result.failure(throwable));
+
+            if (remaining.decrementAndGet() == 0) {
+                Map<K, Result<V>> ordered = new LinkedHashMap<>(total);
+                for (K each : order) {
+                    ordered.put(each, results.get(each));
+                }
+
+                future.complete(ordered);
+            } else {
+                next();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,45 @@
+package net.luxcube.minecraft.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class Misses {
+
+    /**
+     * Turns the given kind of failure into an empty optional, any other failure is kept.
+     *
+     * @param future The future that may fail with a miss.
+     * @param kind   The exception meaning the value does not exist.
+     * @return A future of the optional value.
+     */
+    public static <T> CompletableFuture<Optional<T>> recover(
+        @NotNull CompletableFuture<T> future,
+        @NotNull Class<? extends RuntimeException> kind
+    ) {
+        return future.handle((value, throwable) -> {
+            if (throwable == null) {
+                return Optional.ofNullable(value);
+            }
+
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+
+            if (kind.isInstance(cause)) {
+                return Optional.empty();
+            }
+
+            throw throwable instanceof CompletionException completion
+                ? completion
+                : new CompletionException(cause);
+        });
+    }
+
+}
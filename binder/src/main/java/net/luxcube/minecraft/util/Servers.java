@@ -1,33 +1,37 @@
 package net.luxcube.minecraft.util;
 
-import com.mattmalec.pterodactyl4j.application.entities.ApplicationAllocation;
 import com.mattmalec.pterodactyl4j.application.entities.ApplicationServer;
 import com.mattmalec.pterodactyl4j.client.entities.ClientAllocation;
 import com.mattmalec.pterodactyl4j.client.entities.ClientServer;
 import com.mattmalec.pterodactyl4j.entities.Allocation;
+import net.luxcube.minecraft.server.PteroServer;
+import net.luxcube.minecraft.server.PteroServerImpl;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
 import org.jetbrains.annotations.Blocking;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * @author Luiz O. F. Corrêa
  * @since 02/11/2022
  **/
 public class Servers {
 
+    /**
+     * Maps the application server, resolving its address and node through the bridge's node cache.
+     */
     @Blocking
-    public static Pair<String, String> getAddressAndNode(@NotNull ApplicationServer applicationServer) {
-        ApplicationAllocation allocation = applicationServer.retrieveDefaultAllocation()
-            .timeout(5, TimeUnit.SECONDS)
-            .execute();
-
-        String node = applicationServer.retrieveNode()
-            .timeout(5, TimeUnit.SECONDS)
-            .execute()
-            .getName();
-
-        return new Pair<>(ensureAddress(allocation), node);
+    public static PteroServer toPteroServer(@NotNull PteroBridgeVO bridge, @NotNull ApplicationServer applicationServer) {
+        Pair<String, String> addressAndNode = bridge.getNodeCache().resolve(applicationServer);
+
+        return new PteroServerImpl(
+            bridge,
+            applicationServer.getIdentifier(),
+            applicationServer.getId(),
+            addressAndNode.first(),
+            addressAndNode.second(),
+            applicationServer.getName(),
+            applicationServer.getUUID()
+        );
     }
 
     @Blocking
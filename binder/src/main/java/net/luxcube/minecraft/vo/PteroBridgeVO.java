@@ -1,20 +1,50 @@
 package net.luxcube.minecraft.vo;
 
+import com.mattmalec.pterodactyl4j.PteroAction;
 import com.mattmalec.pterodactyl4j.PteroBuilder;
 import com.mattmalec.pterodactyl4j.application.entities.PteroApplication;
 import com.mattmalec.pterodactyl4j.client.entities.PteroClient;
 import com.mattmalec.pterodactyl4j.exceptions.LoginException;
-import com.mattmalec.pterodactyl4j.utils.NamedThreadFactory;
+import lombok.AccessLevel;
 import lombok.Getter;
+import net.luxcube.minecraft.cache.NodeCache;
+import net.luxcube.minecraft.cache.ServerCache;
+import net.luxcube.minecraft.deadline.Deadline;
+import net.luxcube.minecraft.deadline.Deadlines;
+import net.luxcube.minecraft.executor.AdmissionExecutorService;
+import net.luxcube.minecraft.executor.BridgeExecutors;
+import net.luxcube.minecraft.index.OwnerIndex;
+import net.luxcube.minecraft.index.UserIndex;
 import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.lookup.PteroLookup;
+import net.luxcube.minecraft.metrics.BridgeMetrics;
+import net.luxcube.minecraft.metrics.HttpCallInterceptor;
+import net.luxcube.minecraft.metrics.OperationCall;
+import net.luxcube.minecraft.metrics.export.JmxExporter;
+import net.luxcube.minecraft.metrics.export.PrometheusExporter;
+import net.luxcube.minecraft.options.PteroOptions;
+import net.luxcube.minecraft.persist.InventoryStore;
+import net.luxcube.minecraft.ratelimit.RateLimitInterceptor;
+import net.luxcube.minecraft.ratelimit.TokenBucket;
+import net.luxcube.minecraft.scan.InventoryScanner;
+import net.luxcube.minecraft.sync.InventorySync;
+import net.luxcube.minecraft.websocket.SocketManager;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 /**
  * @author Luiz O. F. Corrêa
@@ -23,55 +53,139 @@ import java.util.concurrent.TimeUnit;
 @Getter
 public class PteroBridgeVO {
 
+    private static final int TOO_MANY_REQUESTS = 429;
+
     public static PteroBridgeVO createInstance(
         @NotNull URL address,
         @NotNull String clientKey,
         @NotNull String applicationKey,
         int nThreads
+    ) {
+        return createInstance(
+            address,
+            clientKey,
+            applicationKey,
+            PteroOptions.ofThreads(nThreads)
+        );
+    }
+
+    public static PteroBridgeVO createInstance(
+        @NotNull URL address,
+        @NotNull String clientKey,
+        @NotNull String applicationKey,
+        @NotNull PteroOptions options
     ) {
         if (!address.toString().endsWith("/")) {
             try {
                 address = new URL(address + "/");
             } catch (MalformedURLException e) {
-                PteroLogger.severe("Invalid URL: " + address, e);
+                PteroLogger.severe("Invalid URL: {}", address, e);
                 return null;
             }
         }
 
-        if (nThreads < 1) {
-            PteroLogger.severe("Invalid number of threads: " + nThreads);
-            nThreads = 1;
-        }
+        AdmissionExecutorService executorService = BridgeExecutors.createWorker(options);
 
-        ExecutorService executorService = new ThreadPoolExecutor(
-            nThreads,
-            nThreads,
-            0L,
-            TimeUnit.MILLISECONDS,
-            new LinkedBlockingQueue<>(),
-            new NamedThreadFactory("PteroMC")
-        );
+        TokenBucket applicationLimiter = createLimiter("application", options.getApplicationRateLimit(), options),
+            clientLimiter = createLimiter("client", options.getClientRateLimit(), options);
+
+        OkHttpClient clientHttpClient = createHttpClient(clientLimiter, options);
 
-        PteroLogger.debug("PteroBridge initialized with %d threads", nThreads);
         return new PteroBridgeVO(
             address,
             clientKey,
             applicationKey,
-            PteroBuilder.createApplication(address.toString(), applicationKey),
-            PteroBuilder.createClient(address.toString(), clientKey),
-            executorService
+            PteroBuilder.create(address.toString(), applicationKey)
+                .setHttpClient(createHttpClient(applicationLimiter, options))
+                .buildApplication(),
+            PteroBuilder.create(address.toString(), clientKey)
+                .setHttpClient(clientHttpClient)
+                .buildClient(),
+            clientHttpClient,
+            executorService,
+            applicationLimiter,
+            clientLimiter,
+            options
         );
     }
 
+    private static @Nullable TokenBucket createLimiter(@NotNull String name, int limit, @NotNull PteroOptions options) {
+        if (limit <= 0) {
+            return null;
+        }
+
+        PteroLogger.debug("PteroBridge {} key limited to {} requests per minute", name, limit);
+        return new TokenBucket(name, limit, options.getRateLimitBurst());
+    }
+
+    private static OkHttpClient createHttpClient(@Nullable TokenBucket limiter, @NotNull PteroOptions options) {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        if (options.isMetrics()) {
+            builder.addInterceptor(new HttpCallInterceptor(options.isJfr()));
+        }
+
+        if (limiter != null) {
+            builder.addInterceptor(new RateLimitInterceptor(limiter));
+        }
+
+        // Also bounds the requests Pterodactyl4J sends by itself, the websockets are only bounded while connecting
+        if (!options.getRequestTimeout().isZero()) {
+            builder.callTimeout(options.getRequestTimeout());
+        }
+
+        return builder.build();
+    }
+
     private final PteroClient client;
     private final PteroApplication application;
 
+    /**
+     * The HTTP client of the client key, shared with Pterodactyl4J,
+     * used for the endpoints read without it.
+     */
+    private final OkHttpClient clientHttpClient;
+
     private final URL address;
 
     private final String clientKey;
     private final String applicationKey;
 
-    private final ExecutorService worker;
+    private final AdmissionExecutorService worker;
+
+    @Nullable
+    private final TokenBucket applicationLimiter, clientLimiter;
+
+    private final PteroOptions options;
+
+    private final BridgeMetrics metrics;
+
+    private final Deadlines deadlines;
+
+    private final PteroLookup lookup;
+    private final ServerCache serverCache;
+    private final NodeCache nodeCache;
+    private final InventoryScanner scanner;
+
+    private final OwnerIndex ownerIndex;
+    private final UserIndex userIndex;
+
+    private final InventorySync inventorySync;
+
+    private final SocketManager socketManager;
+
+    @Nullable
+    private final InventoryStore inventoryStore;
+
+    private final ScheduledExecutorService scheduler;
+
+    @Nullable
+    private final JmxExporter jmxExporter;
+
+    @Nullable
+    private final PrometheusExporter prometheusExporter;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean shutdown = new AtomicBoolean();
 
     private PteroBridgeVO(
         @NotNull URL address,
@@ -79,13 +193,276 @@ public class PteroBridgeVO {
         @NotNull String applicationKey,
         @NotNull PteroApplication application,
         @NotNull PteroClient client,
-        @NotNull ExecutorService worker
+        @NotNull OkHttpClient clientHttpClient,
+        @NotNull AdmissionExecutorService worker,
+        @Nullable TokenBucket applicationLimiter,
+        @Nullable TokenBucket clientLimiter,
+        @NotNull PteroOptions options
     ) {
         this.address = address;
         this.clientKey = clientKey;
         this.applicationKey = applicationKey;
         this.application = application;
         this.client = client;
+        this.clientHttpClient = clientHttpClient;
         this.worker = worker;
+        this.applicationLimiter = applicationLimiter;
+        this.clientLimiter = clientLimiter;
+
+        this.options = options;
+
+        if (options.getLogBufferSize() > 0) {
+            PteroLogger.enableAsync(options.getLogBufferSize());
+        }
+
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "PteroMC-Scheduler");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        // Every operation arms a deadline timer, most of them are cancelled long before firing
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.scheduler = scheduler;
+
+        this.deadlines = new Deadlines(options.getOperationTimeout(), options.getRequestTimeout(), scheduler);
+        this.metrics = new BridgeMetrics(options.isMetrics(), options.isJfr(), deadlines);
+
+        this.lookup = new PteroLookup(this);
+        this.serverCache = new ServerCache(options.getServerCacheTtl(), options.getServerCacheSize());
+        this.nodeCache = new NodeCache(this);
+        this.scanner = new InventoryScanner(this);
+
+        this.ownerIndex = new OwnerIndex(this);
+        this.userIndex = new UserIndex(this);
+
+        this.inventorySync = new InventorySync(this);
+
+        this.socketManager = new SocketManager(this);
+
+        this.inventoryStore = options.getInventoryFile() == null
+            ? null
+            : new InventoryStore(this, options.getInventoryFile());
+
+        if (inventoryStore != null) {
+            // Serve the persisted inventory right away and reconcile it with the panel in the background
+            if (inventoryStore.load()) {
+                ownerIndex.rebuild();
+                userIndex.rebuild();
+            }
+
+            long flush = options.getInventoryFlushInterval().toMillis();
+            if (flush > 0) {
+                scheduler.scheduleWithFixedDelay(
+                    () -> runAsync(inventoryStore::save),
+                    flush,
+                    flush,
+                    TimeUnit.MILLISECONDS
+                );
+            }
+        }
+
+        long refresh = options.getNodeCacheRefresh().toMillis();
+        if (refresh > 0) {
+            scheduler.scheduleWithFixedDelay(
+                () -> runAsync(nodeCache::revalidate),
+                refresh,
+                refresh,
+                TimeUnit.MILLISECONDS
+            );
+        }
+
+        // Only keep the indexes fresh once someone asked for them
+        long ownerRefresh = options.getOwnerIndexRefresh().toMillis();
+        if (ownerRefresh > 0) {
+            scheduler.scheduleWithFixedDelay(
+                () -> {
+                    if (ownerIndex.isWarm()) {
+                        ownerIndex.rebuild();
+                    }
+                },
+                ownerRefresh,
+                ownerRefresh,
+                TimeUnit.MILLISECONDS
+            );
+        }
+
+        long syncInterval = options.getInventorySyncInterval().toMillis();
+        if (syncInterval > 0) {
+            scheduler.scheduleWithFixedDelay(
+                inventorySync::sync,
+                syncInterval,
+                syncInterval,
+                TimeUnit.MILLISECONDS
+            );
+        }
+
+        long userRefresh = options.getUserIndexRefresh().toMillis();
+        if (userRefresh > 0) {
+            scheduler.scheduleWithFixedDelay(
+                () -> {
+                    if (userIndex.isWarm()) {
+                        userIndex.rebuild();
+                    }
+                },
+                userRefresh,
+                userRefresh,
+                TimeUnit.MILLISECONDS
+            );
+        }
+
+        this.jmxExporter = options.isJmx() ? new JmxExporter(this) : null;
+        if (jmxExporter != null) {
+            jmxExporter.start();
+        }
+
+        this.prometheusExporter = options.getPrometheusPort() > 0
+            ? new PrometheusExporter(this, options.getPrometheusHost(), options.getPrometheusPort())
+            : null;
+
+        if (prometheusExporter != null) {
+            prometheusExporter.start();
+        }
+    }
+
+    /**
+     * Stops the exporters, closes the websockets and shuts the threads of the bridge down,
+     * writing the inventory and the log records still buffered.
+     * Tasks already running are interrupted.
+     */
+    public void shutdown() {
+        if (!shutdown.compareAndSet(false, true)) {
+            return;
+        }
+
+        if (jmxExporter != null) {
+            jmxExporter.stop();
+        }
+
+        if (prometheusExporter != null) {
+            prometheusExporter.stop();
+        }
+
+        socketManager.shutdown();
+
+        // Saved while the threads are still up, so the next start loads what's known right now
+        if (inventoryStore != null) {
+            inventoryStore.save();
+        }
+
+        scheduler.shutdownNow();
+        worker.shutdownNow();
+
+        if (options.getLogBufferSize() > 0) {
+            PteroLogger.disableAsync();
+        }
+    }
+
+    /**
+     * Runs the supplier into the worker, failing the future instead of
+     * throwing when the worker refuses it.
+     */
+    public <T> CompletableFuture<T> supplyAsync(@NotNull Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, worker);
+        } catch (@NotNull RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Runs the runnable into the worker, failing the future instead of
+     * throwing when the worker refuses it.
+     */
+    public CompletableFuture<Void> runAsync(@NotNull Runnable runnable) {
+        try {
+            return CompletableFuture.runAsync(runnable, worker);
+        } catch (@NotNull RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Starts a load shared by many callers on the worker. It doesn't belong to the caller starting it,
+     * so it runs without its operation and deadline, and a short deadline of that caller doesn't fail the others.
+     * Each caller should wait for it through {@link #joinShared(CompletableFuture)}.
+     */
+    public <T> CompletableFuture<T> supplyShared(@NotNull Supplier<T> load) {
+        return Deadline.detached(() -> BridgeMetrics.detached(() -> supplyAsync(load)));
+    }
+
+    /**
+     * Hands a shared future to the current caller, completing its copy under the caller's operation and deadline,
+     * so the stages it chains are submitted as part of them.
+     *
+     * @return The copy of the caller, failed once its own deadline expires.
+     */
+    public <T> CompletableFuture<T> joinShared(@NotNull CompletableFuture<T> shared) {
+        OperationCall operation = BridgeMetrics.current();
+        Deadline deadline = Deadline.current();
+
+        CompletableFuture<T> copy = new CompletableFuture<>();
+        shared.whenComplete((value, throwable) -> {
+            OperationCall previous = BridgeMetrics.enter(operation);
+            Deadline previousDeadline = Deadline.enter(deadline);
+            try {
+                if (throwable == null) {
+                    copy.complete(value);
+                } else {
+                    copy.completeExceptionally(throwable);
+                }
+            } finally {
+                Deadline.restore(previousDeadline);
+                BridgeMetrics.restore(previous);
+            }
+        });
+
+        return deadlines.bound(copy);
+    }
+
+    /**
+     * Executes the action of the application key on the calling thread, bounded by the deadline
+     * of the current operation. While the panel has the key paused, the action waits for its turn here
+     * rather than on the threads of Pterodactyl4J.
+     */
+    public <T> T executeApplication(@NotNull PteroAction<T> action) {
+        return execute(applicationLimiter, action);
+    }
+
+    /**
+     * Executes the action of the client key, the same way as {@link #executeApplication(PteroAction)}.
+     */
+    public <T> T executeClient(@NotNull PteroAction<T> action) {
+        return execute(clientLimiter, action);
+    }
+
+    /**
+     * Executes a call of the client key sent without Pterodactyl4J, waiting for its turn the same way
+     * as the actions. A call answered with 429 pauses the key, so it's sent again once its turn comes.
+     */
+    public @NotNull Response executeClient(@NotNull Call call) throws IOException {
+        while (true) {
+            if (clientLimiter != null) {
+                deadlines.sleep(clientLimiter.takeTurn());
+            }
+
+            Response response = deadlines.execute(call);
+            if (response.code() != TOO_MANY_REQUESTS || clientLimiter == null) {
+                return response;
+            }
+
+            response.close();
+            call = call.clone();
+        }
+    }
+
+    private <T> T execute(@Nullable TokenBucket limiter, @NotNull PteroAction<T> action) {
+        // Only the key of the action waits, a pause of the other one doesn't hold it
+        if (limiter != null) {
+            deadlines.sleep(limiter.takeTurn());
+        }
+
+        return deadlines.execute(action);
     }
 }
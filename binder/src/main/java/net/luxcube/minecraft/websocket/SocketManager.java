@@ -0,0 +1,410 @@
+package net.luxcube.minecraft.websocket;
+
+import com.mattmalec.pterodactyl4j.client.entities.ClientServer;
+import com.mattmalec.pterodactyl4j.client.managers.WebSocketManager;
+import com.mattmalec.pterodactyl4j.client.ws.events.AuthSuccessEvent;
+import com.mattmalec.pterodactyl4j.client.ws.events.DisconnectedEvent;
+import com.mattmalec.pterodactyl4j.client.ws.events.Event;
+import com.mattmalec.pterodactyl4j.client.ws.events.TokenExpiredEvent;
+import com.mattmalec.pterodactyl4j.client.ws.hooks.ClientSocketListener;
+import net.luxcube.minecraft.exception.WebSocketLimitException;
+import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.server.PteroServer;
+import net.luxcube.minecraft.server.snapshot.ServerSnapshot;
+import net.luxcube.minecraft.server.subscription.ServerSubscription;
+import net.luxcube.minecraft.vo.PteroBridgeVO;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Owns every websocket the binder opens to the servers.
+ * Each server has at most one socket, which multiplexes all of its listeners.
+ * The amount of sockets is capped by {@link net.luxcube.minecraft.options.PteroOptions#getMaxWebSockets()},
+ * sockets without listeners are closed after the idle timeout, and sockets closed for good or
+ * whose token expired are opened again with a fresh token while they still have listeners.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class SocketManager {
+
+    private static final long MAX_BACKOFF = TimeUnit.SECONDS.toMillis(30);
+
+    // Pterodactyl4J reconnects by itself when the socket drops without a close frame
+    private static final int ABNORMAL_CLOSURE = 1006;
+
+    private final PteroBridgeVO bridge;
+
+    private final int maxConnections;
+    private final long idleTimeout;
+
+    // Access ordered, so the eldest idle connection is the first one evicted
+    private final LinkedHashMap<String, Connection> connections = new LinkedHashMap<>(16, 0.75F, true);
+
+    public SocketManager(@NotNull PteroBridgeVO bridge) {
+        this.bridge = bridge;
+
+        this.maxConnections = bridge.getOptions().getMaxWebSockets();
+        this.idleTimeout = bridge.getOptions().getWebSocketIdleTimeout().toNanos();
+
+        long sweep = Math.max(1000, bridge.getOptions().getWebSocketIdleTimeout().toMillis() / 2);
+        bridge.getScheduler().scheduleWithFixedDelay(
+            this::evictIdle,
+            sweep,
+            sweep,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    public @NotNull ServerSubscription subscribe(
+        @NotNull PteroServer server,
+        @NotNull Consumer<ServerSnapshot> listener
+    ) {
+        Connection connection = acquire(server.getIdentifier(), null, acquired -> {
+            acquired.stats.addListener(listener);
+        });
+
+        // Hand the last known snapshot right away, so late subscribers don't wait for the next push
+        ServerSnapshot last = connection.stats.getLast();
+        if (last != null) {
+            listener.accept(last);
+        }
+
+        return new Subscription(server, listener);
+    }
+
+    /**
+     * Attaches a raw listener to the server's socket, opening it if needed.
+     *
+     * @param clientServer The server, when already retrieved, to skip fetching it again.
+     */
+    public void attach(@NotNull ClientServer clientServer, @NotNull ClientSocketListener listener) {
+        acquire(clientServer.getIdentifier(), clientServer, acquired -> {
+            acquired.listeners.add(listener);
+        });
+    }
+
+    public void detach(@NotNull String identifier, @NotNull ClientSocketListener listener) {
+        synchronized (this) {
+            Connection connection = connections.get(identifier);
+            if (connection == null) {
+                return;
+            }
+
+            connection.listeners.remove(listener);
+            connection.touch();
+        }
+    }
+
+    public synchronized int getOpenConnections() {
+        return connections.size();
+    }
+
+    public void shutdown() {
+        List<Connection> closing;
+        synchronized (this) {
+            closing = new ArrayList<>(connections.values());
+            connections.clear();
+        }
+
+        closing.forEach(Connection::close);
+    }
+
+    /**
+     * Finds or opens the socket of the server.
+     *
+     * @param register Registers the listener of the caller, while no other caller can see the connection as idle and evict it.
+     */
+    private @NotNull Connection acquire(
+        @NotNull String identifier,
+        @Nullable ClientServer clientServer,
+        @NotNull Consumer<Connection> register
+    ) {
+        Connection connection;
+        Connection evicted = null;
+        synchronized (this) {
+            connection = connections.get(identifier);
+            if (connection != null) {
+                register.accept(connection);
+                connection.touch();
+                return connection;
+            }
+
+            if (connections.size() >= maxConnections) {
+                evicted = findIdle();
+                if (evicted == null) {
+                    throw WebSocketLimitException.stackless(maxConnections);
+                }
+
+                connections.remove(evicted.identifier);
+            }
+
+            connection = new Connection(identifier);
+            register.accept(connection);
+            connections.put(identifier, connection);
+        }
+
+        if (evicted != null) {
+            PteroLogger.debug("Evicting idle websocket of server {}", evicted.identifier);
+            evicted.close();
+        }
+
+        connection.open(clientServer);
+        return connection;
+    }
+
+    private @Nullable Connection findIdle() {
+        for (Connection connection : connections.values()) {
+            if (!connection.isUsed()) {
+                return connection;
+            }
+        }
+
+        return null;
+    }
+
+    private void evictIdle() {
+        List<Connection> evicted = new ArrayList<>();
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (Map.Entry<String, Connection> entry : List.copyOf(connections.entrySet())) {
+                Connection connection = entry.getValue();
+                if (connection.isUsed() || now - connection.idleSince < idleTimeout) {
+                    continue;
+                }
+
+                connections.remove(entry.getKey());
+                evicted.add(connection);
+            }
+        }
+
+        for (Connection connection : evicted) {
+            PteroLogger.debug("Closing idle websocket of server {}", connection.identifier);
+            connection.close();
+        }
+    }
+
+    private void release(@NotNull String identifier, @NotNull Consumer<ServerSnapshot> listener) {
+        synchronized (this) {
+            Connection connection = connections.get(identifier);
+            if (connection == null) {
+                return;
+            }
+
+            connection.stats.removeListener(listener);
+            connection.touch();
+        }
+    }
+
+    private synchronized boolean isCurrent(@NotNull Connection connection) {
+        return connections.get(connection.identifier) == connection;
+    }
+
+    private class Connection {
+
+        private final String identifier;
+
+        private final StatsListener stats;
+        private final Set<ClientSocketListener> listeners = new CopyOnWriteArraySet<>();
+
+        // The socket being used, the events of any other one are ignored
+        private volatile Socket socket;
+        private volatile ClientServer clientServer;
+
+        private volatile long idleSince = System.nanoTime();
+        private volatile boolean closed;
+
+        private int attempts;
+
+        private Connection(@NotNull String identifier) {
+            this.identifier = identifier;
+            this.stats = new StatsListener(identifier);
+        }
+
+        private boolean isUsed() {
+            return stats.hasListeners() || !listeners.isEmpty();
+        }
+
+        private void touch() {
+            if (!isUsed()) {
+                idleSince = System.nanoTime();
+            }
+        }
+
+        private void open(@Nullable ClientServer known) {
+            if (known != null) {
+                build(known);
+                return;
+            }
+
+            bridge.getLookup()
+                .retrieveClientServer(identifier)
+                .thenAccept(this::build)
+                .exceptionally(throwable -> {
+                    PteroLogger.severe("Couldn't open the websocket of server {}", identifier, throwable);
+                    reconnect(null);
+                    return null;
+                });
+        }
+
+        private void build(@NotNull ClientServer clientServer) {
+            Socket previous;
+            synchronized (this) {
+                if (closed || !isCurrent(this)) {
+                    return;
+                }
+
+                PteroLogger.debug("Opening websocket of server {}", identifier);
+
+                previous = socket;
+
+                Socket opened = new Socket();
+                this.clientServer = clientServer;
+                this.socket = opened;
+
+                opened.manager = clientServer.getWebSocketBuilder()
+                    .addEventListeners(opened)
+                    .build();
+            }
+
+            if (previous != null) {
+                previous.shutdown();
+            }
+        }
+
+        /**
+         * Opens the socket again with a fresh token, after a backoff.
+         *
+         * @param dropped The socket that was dropped, {@code null} if none could be opened.
+         */
+        private void reconnect(@Nullable Socket dropped) {
+            long delay;
+            synchronized (this) {
+                if (closed || socket != dropped || !isCurrent(this) || !isUsed()) {
+                    return;
+                }
+
+                socket = null;
+
+                delay = Math.min(MAX_BACKOFF, TimeUnit.SECONDS.toMillis(1L << Math.min(attempts++, 5)));
+            }
+
+            // Not the current socket anymore, so the events of its shutdown are ignored
+            if (dropped != null) {
+                dropped.shutdown();
+            }
+
+            PteroLogger.debug("Reconnecting websocket of server {} in {} ms", identifier, delay);
+
+            // Building the socket again asks the panel for a fresh token
+            ClientServer known = clientServer;
+            bridge.getScheduler().schedule(
+                () -> open(known),
+                delay,
+                TimeUnit.MILLISECONDS
+            );
+        }
+
+        private void close() {
+            Socket previous;
+            synchronized (this) {
+                closed = true;
+
+                previous = socket;
+                socket = null;
+            }
+
+            if (previous != null) {
+                previous.shutdown();
+            }
+        }
+
+        private void dispatch(@NotNull Socket from, @NotNull Event event) {
+            if (from != socket) {
+                return;
+            }
+
+            if (event instanceof AuthSuccessEvent) {
+                synchronized (this) {
+                    attempts = 0;
+                }
+            } else if (event instanceof TokenExpiredEvent) {
+                reconnect(from);
+            } else if (event instanceof DisconnectedEvent disconnected
+                && disconnected.getCloseCode() != ABNORMAL_CLOSURE) {
+                reconnect(from);
+            }
+
+            stats.onEvent(event);
+            for (ClientSocketListener listener : listeners) {
+                try {
+                    listener.onEvent(event);
+                } catch (@NotNull Exception e) {
+                    PteroLogger.severe("A websocket listener of server {} failed", identifier, e);
+                }
+            }
+        }
+
+        private class Socket implements ClientSocketListener {
+
+            private volatile WebSocketManager manager;
+
+            @Override
+            public void onEvent(Event event) {
+                dispatch(this, event);
+            }
+
+            private void shutdown() {
+                WebSocketManager opened = manager;
+                if (opened != null) {
+                    opened.shutdown();
+                }
+            }
+
+        }
+
+    }
+
+    private class Subscription implements ServerSubscription {
+
+        private final PteroServer server;
+        private final Consumer<ServerSnapshot> listener;
+
+        private final AtomicBoolean active = new AtomicBoolean(true);
+
+        private Subscription(@NotNull PteroServer server, @NotNull Consumer<ServerSnapshot> listener) {
+            this.server = server;
+            this.listener = listener;
+        }
+
+        @Override
+        public @NotNull PteroServer getServer() {
+            return server;
+        }
+
+        @Override
+        public boolean isActive() {
+            return active.get();
+        }
+
+        @Override
+        public void unsubscribe() {
+            if (active.compareAndSet(true, false)) {
+                release(server.getIdentifier(), listener);
+            }
+        }
+
+    }
+
+}
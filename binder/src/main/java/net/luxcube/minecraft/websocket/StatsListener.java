@@ -0,0 +1,120 @@
+package net.luxcube.minecraft.websocket;
+
+import com.mattmalec.pterodactyl4j.UtilizationState;
+import com.mattmalec.pterodactyl4j.client.ws.events.StatsUpdateEvent;
+import com.mattmalec.pterodactyl4j.client.ws.events.StatusUpdateEvent;
+import com.mattmalec.pterodactyl4j.client.ws.hooks.ClientSocketListenerAdapter;
+import net.luxcube.minecraft.logger.PteroLogger;
+import net.luxcube.minecraft.server.snapshot.ServerSnapshot;
+import net.luxcube.minecraft.server.snapshot.ServerSnapshotImpl;
+import net.luxcube.minecraft.server.status.StatusType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+/**
+ * Turns the {@code stats} events of a server's websocket into snapshots
+ * and fans them out to every subscribed listener.
+ * Listeners are called from the websocket thread, so they should return quickly.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class StatsListener extends ClientSocketListenerAdapter {
+
+    private final String identifier;
+    private final Set<Consumer<ServerSnapshot>> listeners = new CopyOnWriteArraySet<>();
+
+    private volatile ServerSnapshot last;
+
+    public StatsListener(@NotNull String identifier) {
+        this.identifier = identifier;
+    }
+
+    public void addListener(@NotNull Consumer<ServerSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    public boolean removeListener(@NotNull Consumer<ServerSnapshot> listener) {
+        listeners.remove(listener);
+        return listeners.isEmpty();
+    }
+
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * @return The last snapshot pushed by the websocket or {@code null} if none arrived yet.
+     */
+    public @Nullable ServerSnapshot getLast() {
+        return last;
+    }
+
+    @Override
+    public void onStatsUpdate(StatsUpdateEvent event) {
+        ServerSnapshot snapshot = new ServerSnapshotImpl(
+            toStatus(event.getState()),
+            false,
+            event.getMemory(),
+            event.getCPU(),
+            event.getDisk(),
+            event.getNetworkIngress(),
+            event.getNetworkEgress(),
+            event.getUptime()
+        );
+
+        this.last = snapshot;
+        publish(snapshot);
+    }
+
+    @Override
+    public void onStatusUpdate(StatusUpdateEvent event) {
+        ServerSnapshot previous = last;
+        if (previous == null) {
+            return;
+        }
+
+        // Status changes arrive before the next stats, so don't wait for them
+        ServerSnapshot snapshot = new ServerSnapshotImpl(
+            toStatus(event.getState()),
+            previous.isSuspended(),
+            previous.getMemoryBytes(),
+            previous.getCPUAbsolute(),
+            previous.getDiskBytes(),
+            previous.getNetworkIngress(),
+            previous.getNetworkEgress(),
+            previous.getUptime()
+        );
+
+        this.last = snapshot;
+        publish(snapshot);
+    }
+
+    private void publish(@NotNull ServerSnapshot snapshot) {
+        for (Consumer<ServerSnapshot> listener : listeners) {
+            try {
+                listener.accept(snapshot);
+            } catch (@NotNull Exception e) {
+                PteroLogger.severe("A stats listener of server {} failed", identifier, e);
+            }
+        }
+    }
+
+    private static @NotNull StatusType toStatus(@Nullable UtilizationState state) {
+        if (state == null) {
+            return StatusType.OFFLINE;
+        }
+
+        return switch (state) {
+            case STARTING -> StatusType.STARTING;
+            case RUNNING -> StatusType.ONLINE;
+            case STOPPING -> StatusType.STOPPING;
+            default -> StatusType.OFFLINE;
+        };
+    }
+
+}
@@ -1,5 +1,6 @@
 package net.luxcube.minecraft;
 
+import net.luxcube.minecraft.options.PteroOptions;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.ServicePriority;
@@ -29,14 +30,41 @@ public class PteroBukkit {
         int nThreads,
         @NotNull Plugin plugin
     ) throws IllegalArgumentException {
-        if (!plugin.isEnabled()) {
-            throw new IllegalArgumentException("Plugin must be enabled");
-        }
-
         if (nThreads <= 0) {
             throw new IllegalArgumentException("nThreads must be greater than 0");
         }
 
+        return createInstance(
+            url,
+            applicationKey,
+            clientKey,
+            PteroOptions.ofThreads(nThreads),
+            plugin
+        );
+    }
+
+    /**
+     * Registers the PteroManager service using custom options.
+     *
+     * @param url            The URL of the Pterodactyl panel.
+     * @param applicationKey The application key of the Pterodactyl panel.
+     * @param clientKey      The client key of the Pterodactyl panel.
+     * @param options        The options of the bridge, such as the executor type.
+     * @param plugin         The plugin that will be used to register the service.
+     * @return The PteroManager service, it doesn't wait for the panel, see {@link PteroManager#whenReady()}.
+     * @throws IllegalArgumentException If the options are invalid or if the plugin is not enabled.
+     */
+    public static PteroManager createInstance(
+        @NotNull String url,
+        @NotNull String applicationKey,
+        @NotNull String clientKey,
+        @NotNull PteroOptions options,
+        @NotNull Plugin plugin
+    ) throws IllegalArgumentException {
+        if (!plugin.isEnabled()) {
+            throw new IllegalArgumentException("Plugin must be enabled");
+        }
+
         // Don't need to load it again
         if (Bukkit.getServicesManager().isProvidedFor(PteroManager.class)) {
             return Bukkit.getServicesManager().load(PteroManager.class);
@@ -46,7 +74,7 @@ public class PteroBukkit {
             applicationKey,
             clientKey,
             url,
-            nThreads
+            options
         );
 
         Bukkit.getServicesManager().register(PteroManager.class, manager, plugin, ServicePriority.Normal);
@@ -1,5 +1,6 @@
 package net.luxcube.minecraft;
 
+import net.luxcube.minecraft.options.PteroOptions;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -28,11 +29,35 @@ public class PteroBungee {
             throw new IllegalArgumentException("nThreads must be greater than 0");
         }
 
+        return createInstance(
+            url,
+            applicationKey,
+            clientKey,
+            PteroOptions.ofThreads(nThreads)
+        );
+    }
+
+    /**
+     * Registers the PteroManager service using custom options.
+     *
+     * @param url            The URL of the Pterodactyl panel.
+     * @param applicationKey The application key of the Pterodactyl panel.
+     * @param clientKey      The client key of the Pterodactyl panel.
+     * @param options        The options of the bridge, such as the executor type.
+     * @return The PteroManager service.
+     * @throws IllegalArgumentException If the options are invalid.
+     */
+    public static PteroManager createInstance(
+        @NotNull String url,
+        @NotNull String applicationKey,
+        @NotNull String clientKey,
+        @NotNull PteroOptions options
+    ) throws IllegalArgumentException {
         return new PteroManagerImpl(
             applicationKey,
             clientKey,
             url,
-            nThreads
+            options
         );
     }
 
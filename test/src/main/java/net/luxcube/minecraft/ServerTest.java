@@ -1,7 +1,11 @@
 package net.luxcube.minecraft;
 
+import net.luxcube.minecraft.metrics.OperationMetrics;
+import net.luxcube.minecraft.panel.PanelBehavior;
+import net.luxcube.minecraft.panel.PanelStandIn;
 import net.luxcube.minecraft.server.PteroServer;
 import net.luxcube.minecraft.user.PteroUser;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -17,18 +21,26 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  **/
 public class ServerTest {
 
+    static PanelStandIn panel;
     static PteroManager pteroManager;
 
     @BeforeAll
     public static void setup() {
+        panel = PanelStandIn.start(PanelBehavior.defaults());
         pteroManager = new PteroManagerImpl(
-            "ptla_NZuGwOqmNT8BpCH4hT2LfYBkftWvE989aYhoDixZe2q",
-            "ptlc_fPK6UAWJwLuSbSteEng1dIhc2p4G5pVImrA0k9xuROH",
-            "http://5.249.162.105",
+            PanelStandIn.APPLICATION_KEY,
+            PanelStandIn.CLIENT_KEY,
+            panel.getURL(),
             4
         );
     }
 
+    @AfterAll
+    public static void teardown() {
+        pteroManager.shutdown();
+        panel.close();
+    }
+
     @Test
     public void createUser() {
         PteroUser user = pteroManager.getFactory()
@@ -131,6 +143,13 @@ public class ServerTest {
             throwable.printStackTrace();
             return null;
         }).join();
+
+        OperationMetrics metrics = pteroManager.getMetrics()
+            .getOperation("PteroServer.start");
+
+        assertNotNull(metrics, "Start wasn't recorded");
+
+        assertTrue(metrics.getHttpCalls() > 0, "Start didn't record its HTTP requests");
     }
 
     @Test
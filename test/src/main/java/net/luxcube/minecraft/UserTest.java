@@ -2,14 +2,19 @@ package net.luxcube.minecraft;
 
 import net.luxcube.minecraft.PteroManager;
 import net.luxcube.minecraft.PteroManagerImpl;
+import net.luxcube.minecraft.panel.PanelBehavior;
+import net.luxcube.minecraft.panel.PanelStandIn;
 import net.luxcube.minecraft.user.PteroUser;
 import net.luxcube.minecraft.util.Users;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Luiz O. F. Corrêa
@@ -17,21 +22,29 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
  **/
 public class UserTest {
 
+    static PanelStandIn panel;
     static PteroManager pteroManager;
     static UUID uuid;
 
     @BeforeAll
     public static void setup() {
+        panel = PanelStandIn.start(PanelBehavior.defaults());
         pteroManager = new PteroManagerImpl(
-            "ptla_NZuGwOqmNT8BpCH4hT2LfYBkftWvE989aYhoDixZe2q",
-            "ptlc_fPK6UAWJwLuSbSteEng1dIhc2p4G5pVImrA0k9xuROH",
-            "http://5.249.162.105",
+            PanelStandIn.APPLICATION_KEY,
+            PanelStandIn.CLIENT_KEY,
+            panel.getURL(),
             4
         );
 
         uuid = UUID.randomUUID();
     }
 
+    @AfterAll
+    public static void teardown() {
+        pteroManager.shutdown();
+        panel.close();
+    }
+
     @Test
     public void createUser() {
         PteroUser user = pteroManager.getFactory()
@@ -83,6 +96,15 @@ public class UserTest {
         System.out.println("targetUser.getId() = " + targetUser.getId());
     }
 
+    @Test
+    public void findMissingUserByUUID() {
+        Optional<PteroUser> user = pteroManager.getUserRepository()
+            .findUserByUUIDIfPresent(UUID.randomUUID())
+            .join();
+
+        assertTrue(user.isEmpty(), "Missing user was found");
+    }
+
     @Test
     public void deleteUser() {
         PteroUser pteroUser = pteroManager.getUserRepository()
@@ -0,0 +1,77 @@
+package net.luxcube.minecraft.panel;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Represents how the {@link PanelStandIn} misbehaves, so the bridge can be tested
+ * against slow, flaky or rate limited panels. The defaults answer right away and never fail.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+@Getter
+@Builder(toBuilder = true)
+public class PanelBehavior {
+
+    /**
+     * The delay added to every HTTP answer.
+     */
+    @NotNull
+    @Builder.Default
+    private final Duration latency = Duration.ZERO;
+
+    /**
+     * The maximum random delay added on top of the latency.
+     */
+    @NotNull
+    @Builder.Default
+    private final Duration jitter = Duration.ZERO;
+
+    /**
+     * The fraction of requests answered with {@code 500}, between 0 and 1.
+     */
+    @Builder.Default
+    private final double errorRate = 0;
+
+    /**
+     * The fraction of requests answered with {@code 429} and a {@code Retry-After}, between 0 and 1.
+     */
+    @Builder.Default
+    private final double tooManyRequestsRate = 0;
+
+    /**
+     * The requests per minute announced through the {@code X-RateLimit-*} headers.
+     */
+    @Builder.Default
+    private final int rateLimit = 240;
+
+    /**
+     * The threads answering HTTP requests.
+     */
+    @Builder.Default
+    private final int threads = 32;
+
+    /**
+     * How often the websockets push the stats of their server.
+     */
+    @NotNull
+    @Builder.Default
+    private final Duration statsInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long a new server stays installing once its websocket is authenticated.
+     */
+    @NotNull
+    @Builder.Default
+    private final Duration installDuration = Duration.ofMillis(200);
+
+    public static PanelBehavior defaults() {
+        return PanelBehavior.builder()
+            .build();
+    }
+
+}
@@ -0,0 +1,359 @@
+package net.luxcube.minecraft.panel;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A minimal websocket endpoint speaking the Wings protocol: it authenticates the token handed
+ * by the panel, pushes the status and stats of the server, and plays the install events of
+ * servers that are still installing. Only unfragmented frames are supported, which is what OkHttp sends.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class PanelSocket implements AutoCloseable {
+
+    private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    private static final int TEXT = 0x1, CLOSE = 0x8, PING = 0x9, PONG = 0xA;
+
+    private final PanelState state;
+    private final PanelBehavior behavior;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections;
+    private final ScheduledExecutorService ticker;
+
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+    private final Set<Connection> open = ConcurrentHashMap.newKeySet();
+
+    public PanelSocket(@NotNull PanelState state, @NotNull PanelBehavior behavior) throws IOException {
+        this.state = state;
+        this.behavior = behavior;
+
+        this.serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+        this.connections = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "PanelStandIn-Socket");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "PanelStandIn-Stats");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        long interval = Math.max(10, behavior.getStatsInterval().toMillis());
+        ticker.scheduleAtFixedRate(this::pushStats, interval, interval, TimeUnit.MILLISECONDS);
+
+        connections.execute(this::accept);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getOpenConnections() {
+        return open.size();
+    }
+
+    /**
+     * Issues a token for the server, as the panel does before handing the socket URL.
+     */
+    @NotNull String issueToken(@NotNull PanelState.Server server) {
+        String token = Long.toHexString(Double.doubleToLongBits(Math.random())) + Long.toHexString(System.nanoTime());
+        tokens.put(token, server.uuid.toString());
+
+        return token;
+    }
+
+    /**
+     * Tells the connections of the server its new state.
+     */
+    void broadcastStatus(@NotNull PanelState.Server server) {
+        for (Connection connection : open) {
+            if (connection.authenticated && connection.server == server) {
+                connection.send("status", server.state);
+            }
+        }
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.execute(() -> new Connection(socket).run());
+            } catch (@NotNull IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void pushStats() {
+        for (Connection connection : open) {
+            if (connection.authenticated) {
+                connection.send("stats", connection.server.toStatsJson().toString());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (@NotNull IOException ignored) {
+        }
+
+        open.forEach(Connection::close);
+        connections.shutdownNow();
+        ticker.shutdownNow();
+    }
+
+    private class Connection {
+
+        private final Socket socket;
+
+        private OutputStream output;
+
+        private volatile PanelState.Server server;
+        private volatile boolean authenticated;
+
+        private Connection(@NotNull Socket socket) {
+            this.socket = socket;
+        }
+
+        private void run() {
+            try (socket) {
+                InputStream input = socket.getInputStream();
+                output = socket.getOutputStream();
+
+                if (!handshake(input)) {
+                    return;
+                }
+
+                open.add(this);
+
+                DataInputStream frames = new DataInputStream(input);
+                while (!socket.isClosed()) {
+                    int first = frames.readUnsignedByte(), second = frames.readUnsignedByte();
+                    int opcode = first & 0x0F;
+
+                    long length = second & 0x7F;
+                    if (length == 126) {
+                        length = frames.readUnsignedShort();
+                    } else if (length == 127) {
+                        length = frames.readLong();
+                    }
+
+                    byte[] mask = new byte[4];
+                    if ((second & 0x80) != 0) {
+                        frames.readFully(mask);
+                    }
+
+                    byte[] payload = new byte[(int) length];
+                    frames.readFully(payload);
+                    for (int index = 0; index < payload.length; index++) {
+                        payload[index] ^= mask[index % 4];
+                    }
+
+                    switch (opcode) {
+                        case TEXT -> receive(new JSONObject(new String(payload, StandardCharsets.UTF_8)));
+                        case PING -> write(PONG, payload);
+                        case CLOSE -> {
+                            write(CLOSE, payload);
+                            return;
+                        }
+                        default -> {
+                        }
+                    }
+                }
+            } catch (@NotNull IOException ignored) {
+            } finally {
+                open.remove(this);
+            }
+        }
+
+        private boolean handshake(@NotNull InputStream input) throws IOException {
+            ByteArrayOutputStream head = new ByteArrayOutputStream();
+            while (true) {
+                int read = input.read();
+                if (read < 0) {
+                    return false;
+                }
+
+                head.write(read);
+                if (head.size() >= 4 && head.toString(StandardCharsets.ISO_8859_1).endsWith("\r\n\r\n")) {
+                    break;
+                }
+            }
+
+            String[] lines = head.toString(StandardCharsets.ISO_8859_1).split("\r\n");
+            String path = lines[0].split(" ")[1];
+
+            Map<String, String> headers = new HashMap<>();
+            for (int index = 1; index < lines.length; index++) {
+                int colon = lines[index].indexOf(':');
+                if (colon > 0) {
+                    headers.put(lines[index].substring(0, colon).trim().toLowerCase(), lines[index].substring(colon + 1).trim());
+                }
+            }
+
+            // The socket path is /api/servers/{uuid}/ws, as on Wings
+            String[] segments = path.split("/");
+            server = segments.length > 3 ? state.findServer(segments[3]) : null;
+
+            String key = headers.get("sec-websocket-key");
+            if (server == null || key == null) {
+                output.write("HTTP/1.1 404 Not Found\r\nContent-Length: 0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                return false;
+            }
+
+            output.write((
+                "HTTP/1.1 101 Switching Protocols\r\n"
+                    + "Upgrade: websocket\r\n"
+                    + "Connection: Upgrade\r\n"
+                    + "Sec-WebSocket-Accept: " + accept(key) + "\r\n\r\n"
+            ).getBytes(StandardCharsets.ISO_8859_1));
+            output.flush();
+
+            return true;
+        }
+
+        private void receive(@NotNull JSONObject message) {
+            JSONArray args = message.optJSONArray("args");
+            String argument = args == null || args.isEmpty() || args.isNull(0) ? null : args.getString(0);
+
+            switch (message.optString("event")) {
+                case "auth" -> {
+                    String uuid = argument == null ? null : tokens.get(argument);
+                    if (uuid == null || !uuid.equals(server.uuid.toString())) {
+                        send("jwt error", "The token is invalid");
+                        return;
+                    }
+
+                    authenticated = true;
+                    send("auth success", null);
+                    send("status", server.state);
+
+                    if (server.installing) {
+                        install();
+                    }
+                }
+                case "send stats" -> {
+                    if (authenticated) {
+                        send("stats", server.toStatsJson().toString());
+                    }
+                }
+                case "set state" -> {
+                    if (authenticated && argument != null) {
+                        PanelStandIn.power(server, argument);
+                        broadcastStatus(server);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        private void install() {
+            PanelState.Server installing = server;
+
+            send("install started", null);
+            send("install output", "Installing " + installing.name);
+
+            ticker.schedule(() -> {
+                installing.installing = false;
+                installing.touch();
+
+                for (Connection connection : open) {
+                    if (connection.authenticated && connection.server == installing) {
+                        connection.send("install completed", null);
+                        connection.send("status", installing.state);
+                    }
+                }
+            }, behavior.getInstallDuration().toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        private void send(@NotNull String event, @Nullable String argument) {
+            JSONObject message = new JSONObject()
+                .put("event", event);
+
+            if (argument != null) {
+                message.put("args", new JSONArray().put(argument));
+            }
+
+            try {
+                write(TEXT, message.toString().getBytes(StandardCharsets.UTF_8));
+            } catch (@NotNull IOException e) {
+                close();
+            }
+        }
+
+        private synchronized void write(int opcode, byte[] payload) throws IOException {
+            output.write(0x80 | opcode);
+            if (payload.length < 126) {
+                output.write(payload.length);
+            } else if (payload.length <= 0xFFFF) {
+                output.write(126);
+                output.write(payload.length >>> 8);
+                output.write(payload.length & 0xFF);
+            } else {
+                output.write(127);
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    output.write((int) ((long) payload.length >>> shift) & 0xFF);
+                }
+            }
+
+            output.write(payload);
+            output.flush();
+        }
+
+        private void close() {
+            open.remove(this);
+
+            try {
+                socket.close();
+            } catch (@NotNull IOException ignored) {
+            }
+        }
+
+    }
+
+    private static @NotNull String accept(@NotNull String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1")
+                .digest((key + ACCEPT_GUID).getBytes(StandardCharsets.ISO_8859_1));
+
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (@NotNull NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,875 @@
+package net.luxcube.minecraft.panel;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An in-process stand-in of a Pterodactyl panel, answering the application and client endpoints
+ * the bridge uses from memory, on a local port:
+ * <pre>{@code
+ * try (PanelStandIn panel = PanelStandIn.start(PanelBehavior.defaults())) {
+ *     PteroManager manager = new PteroManagerImpl(
+ *         PanelStandIn.APPLICATION_KEY,
+ *         PanelStandIn.CLIENT_KEY,
+ *         panel.getURL(),
+ *         4
+ *     );
+ * }
+ * }</pre>
+ * The panel starts with a location, a node, the Paper egg and the account of the client key.
+ * Latency, jitter, errors and {@code 429}s can be injected through the {@link PanelBehavior}.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class PanelStandIn implements AutoCloseable {
+
+    public static final String APPLICATION_KEY = "ptla_standin";
+    public static final String CLIENT_KEY = "ptlc_standin";
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    private final PanelBehavior behavior;
+    private final PanelState state = new PanelState();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final PanelSocket socket;
+
+    private final List<Route> routes = new ArrayList<>();
+
+    private final LongAdder requests = new LongAdder();
+    private final Map<String, LongAdder> requestsByRoute = new ConcurrentHashMap<>();
+
+    // The requests counted in the current rate limit window, which lasts a minute like the panel's
+    private long windowStart = System.nanoTime();
+    private int windowRequests;
+
+    private final PanelState.User account;
+    private final PanelState.Node node;
+
+    private PanelStandIn(@NotNull PanelBehavior behavior) throws IOException {
+        this.behavior = behavior;
+
+        PanelState.Location location = state.addLocation("local");
+        this.node = state.addNode("node-1", location, 65536, 64);
+        this.account = state.addUser("admin", "admin@panel.local", "admin", true);
+        state.addEgg("Minecraft", "Paper");
+
+        this.socket = new PanelSocket(state, behavior);
+
+        this.executor = Executors.newFixedThreadPool(Math.max(1, behavior.getThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "PanelStandIn-HTTP");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+
+        registerApplicationRoutes();
+        registerClientRoutes();
+
+        server.start();
+    }
+
+    public static @NotNull PanelStandIn start(@NotNull PanelBehavior behavior) {
+        try {
+            return new PanelStandIn(behavior);
+        } catch (@NotNull IOException e) {
+            throw new IllegalStateException("Couldn't start the panel stand-in", e);
+        }
+    }
+
+    public @NotNull String getURL() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    public @NotNull PanelState getState() {
+        return state;
+    }
+
+    public @NotNull PanelState.User getAccount() {
+        return account;
+    }
+
+    public @NotNull PanelState.Node getNode() {
+        return node;
+    }
+
+    public @NotNull PanelSocket getSocket() {
+        return socket;
+    }
+
+    /**
+     * @return The amount of HTTP requests received, including the failed ones.
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * @param route The route, such as {@code GET /api/application/servers}.
+     * @return The amount of HTTP requests the route answered.
+     */
+    public long getRequests(@NotNull String route) {
+        LongAdder counter = requestsByRoute.get(route);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        socket.close();
+    }
+
+    static void power(@NotNull PanelState.Server server, @NotNull String signal) {
+        switch (signal) {
+            case "start", "restart" -> {
+                server.state = "running";
+                server.startedAt = System.currentTimeMillis();
+            }
+            case "stop", "kill" -> server.state = "offline";
+            default -> throw new IllegalArgumentException("Unknown signal " + signal);
+        }
+    }
+
+    private void registerApplicationRoutes() {
+        route("GET", "/api/application/users", false, (request, matcher) -> {
+            List<JSONObject> users = new ArrayList<>();
+            synchronized (state) {
+                for (PanelState.User user : state.users.values()) {
+                    if (request.matches("username", user.username)
+                        && request.matches("email", user.email)
+                        && request.matches("uuid", user.uuid.toString())) {
+                        users.add(state.toApplicationJson(user, request.includes("servers")));
+                    }
+                }
+            }
+
+            return Reply.ok(page(request, "user", users));
+        });
+
+        route("GET", "/api/application/users/(\\d+)", false, (request, matcher) -> {
+            synchronized (state) {
+                PanelState.User user = state.users.get(Integer.parseInt(matcher.group(1)));
+                return user == null
+                    ? Reply.notFound()
+                    : Reply.ok(PanelState.wrap("user", state.toApplicationJson(user, request.includes("servers"))));
+            }
+        });
+
+        route("POST", "/api/application/users", false, (request, matcher) -> {
+            JSONObject body = request.body();
+            synchronized (state) {
+                String username = body.getString("username"), email = body.getString("email");
+                for (PanelState.User user : state.users.values()) {
+                    if (user.username.equalsIgnoreCase(username) || user.email.equalsIgnoreCase(email)) {
+                        return Reply.validation("The username or email has already been taken.");
+                    }
+                }
+
+                PanelState.User user = state.addUser(username, email, body.optString("first_name"), false);
+                user.lastName = body.optString("last_name", user.lastName);
+                user.password = body.optString("password", null);
+
+                return new Reply(201, PanelState.wrap("user", state.toApplicationJson(user, false)));
+            }
+        });
+
+        route("PATCH", "/api/application/users/(\\d+)", false, (request, matcher) -> {
+            JSONObject body = request.body();
+            synchronized (state) {
+                PanelState.User user = state.users.get(Integer.parseInt(matcher.group(1)));
+                if (user == null) {
+                    return Reply.notFound();
+                }
+
+                user.username = body.optString("username", user.username);
+                user.email = body.optString("email", user.email);
+                user.firstName = body.optString("first_name", user.firstName);
+                user.lastName = body.optString("last_name", user.lastName);
+                user.password = body.optString("password", user.password);
+                user.updatedAt = PanelState.now();
+
+                return Reply.ok(PanelState.wrap("user", state.toApplicationJson(user, false)));
+            }
+        });
+
+        route("DELETE", "/api/application/users/(\\d+)", false, (request, matcher) -> {
+            synchronized (state) {
+                return state.users.remove(Integer.parseInt(matcher.group(1))) == null
+                    ? Reply.notFound()
+                    : Reply.noContent();
+            }
+        });
+
+        route("GET", "/api/application/servers", false, (request, matcher) -> {
+            List<JSONObject> servers = new ArrayList<>();
+            synchronized (state) {
+                for (PanelState.Server server : state.servers.values()) {
+                    if (request.matches("name", server.name)
+                        && request.matches("uuid", server.uuid.toString())) {
+                        servers.add(server.toApplicationJson());
+                    }
+                }
+            }
+
+            return Reply.ok(page(request, "server", servers));
+        });
+
+        route("GET", "/api/application/servers/(\\d+)", false, (request, matcher) -> {
+            synchronized (state) {
+                PanelState.Server server = state.servers.get(Integer.parseInt(matcher.group(1)));
+                return server == null
+                    ? Reply.notFound()
+                    : Reply.ok(PanelState.wrap("server", server.toApplicationJson()));
+            }
+        });
+
+        route("POST", "/api/application/servers", false, (request, matcher) -> {
+            JSONObject body = request.body();
+            synchronized (state) {
+                PanelState.User owner = state.users.get(body.getInt("user"));
+                PanelState.Egg egg = state.eggs.get(body.getInt("egg"));
+                if (owner == null || egg == null) {
+                    return Reply.validation("The selected user or egg is invalid.");
+                }
+
+                PanelState.Node target = null;
+                JSONObject allocation = body.optJSONObject("allocation");
+                if (allocation != null) {
+                    PanelState.Allocation chosen = state.allocations.get(allocation.getInt("default"));
+                    target = chosen == null ? null : state.nodes.get(chosen.nodeId);
+                } else {
+                    for (PanelState.Node candidate : state.nodes.values()) {
+                        if (state.freeAllocation(candidate.id) != null) {
+                            target = candidate;
+                            break;
+                        }
+                    }
+                }
+
+                if (target == null) {
+                    return Reply.validation("No allocations satisfying the requirements could be found.");
+                }
+
+                PanelState.Server server = state.addServer(body.getString("name"), owner, target, egg);
+                server.description = body.optString("description", "");
+                server.image = body.optString("docker_image", server.image);
+                server.startup = body.optString("startup", server.startup);
+
+                JSONObject limits = body.optJSONObject("limits");
+                if (limits != null) {
+                    server.memory = limits.optLong("memory", server.memory);
+                    server.disk = limits.optLong("disk", server.disk);
+                    server.cpu = limits.optLong("cpu", server.cpu);
+                }
+
+                server.installing = true;
+                return new Reply(201, PanelState.wrap("server", server.toApplicationJson()));
+            }
+        });
+
+        route("PATCH", "/api/application/servers/(\\d+)/build", false, (request, matcher) -> {
+            JSONObject body = request.body();
+            synchronized (state) {
+                PanelState.Server server = state.servers.get(Integer.parseInt(matcher.group(1)));
+                if (server == null) {
+                    return Reply.notFound();
+                }
+
+                JSONObject limits = body.optJSONObject("limits");
+                JSONObject source = limits == null ? body : limits;
+
+                server.memory = source.optLong("memory", server.memory);
+                server.disk = source.optLong("disk", server.disk);
+                server.cpu = source.optLong("cpu", server.cpu);
+                server.touch();
+
+                return Reply.ok(PanelState.wrap("server", server.toApplicationJson()));
+            }
+        });
+
+        route("DELETE", "/api/application/servers/(\\d+)(/force)?", false, (request, matcher) -> {
+            synchronized (state) {
+                PanelState.Server server = state.servers.get(Integer.parseInt(matcher.group(1)));
+                if (server == null) {
+                    return Reply.notFound();
+                }
+
+                state.deleteServer(server);
+                return Reply.noContent();
+            }
+        });
+
+        route("GET", "/api/application/nodes", false, (request, matcher) -> {
+            List<JSONObject> nodes = new ArrayList<>();
+            synchronized (state) {
+                for (PanelState.Node node : state.nodes.values()) {
+                    nodes.add(state.toApplicationJson(node));
+                }
+            }
+
+            return Reply.ok(page(request, "node", nodes));
+        });
+
+        route("GET", "/api/application/nodes/(\\d+)", false, (request, matcher) -> {
+            synchronized (state) {
+                PanelState.Node node = state.nodes.get(Integer.parseInt(matcher.group(1)));
+                return node == null
+                    ? Reply.notFound()
+                    : Reply.ok(PanelState.wrap("node", state.toApplicationJson(node)));
+            }
+        });
+
+        route("GET", "/api/application/nodes/(\\d+)/allocations", false, (request, matcher) -> {
+            int nodeId = Integer.parseInt(matcher.group(1));
+
+            List<JSONObject> allocations = new ArrayList<>();
+            synchronized (state) {
+                for (PanelState.Allocation allocation : state.allocations.values()) {
+                    if (allocation.nodeId == nodeId) {
+                        allocations.add(allocation.toApplicationJson());
+                    }
+                }
+            }
+
+            return Reply.ok(page(request, "allocation", allocations));
+        });
+
+        route("GET", "/api/application/locations", false, (request, matcher) -> {
+            List<JSONObject> locations = new ArrayList<>();
+            synchronized (state) {
+                for (PanelState.Location location : state.locations.values()) {
+                    locations.add(location.toApplicationJson());
+                }
+            }
+
+            return Reply.ok(page(request, "location", locations));
+        });
+
+        route("GET", "/api/application/locations/(\\d+)", false, (request, matcher) -> {
+            synchronized (state) {
+                PanelState.Location location = state.locations.get(Integer.parseInt(matcher.group(1)));
+                return location == null
+                    ? Reply.notFound()
+                    : Reply.ok(PanelState.wrap("location", location.toApplicationJson()));
+            }
+        });
+
+        route("GET", "/api/application/nests", false, (request, matcher) -> {
+            List<JSONObject> nests = new ArrayList<>();
+            synchronized (state) {
+                for (PanelState.Nest nest : state.nests.values()) {
+                    nests.add(state.toApplicationJson(nest, request.includes("eggs")));
+                }
+            }
+
+            return Reply.ok(page(request, "nest", nests));
+        });
+
+        route("GET", "/api/application/nests/(\\d+)/eggs", false, (request, matcher) -> {
+            int nestId = Integer.parseInt(matcher.group(1));
+
+            List<JSONObject> eggs = new ArrayList<>();
+            synchronized (state) {
+                for (PanelState.Egg egg : state.eggs.values()) {
+                    if (egg.nestId == nestId) {
+                        eggs.add(egg.toApplicationJson());
+                    }
+                }
+            }
+
+            return Reply.ok(page(request, "egg", eggs));
+        });
+
+        route("GET", "/api/application/nests/(\\d+)/eggs/(\\d+)", false, (request, matcher) -> {
+            synchronized (state) {
+                PanelState.Egg egg = state.eggs.get(Integer.parseInt(matcher.group(2)));
+                return egg == null
+                    ? Reply.notFound()
+                    : Reply.ok(PanelState.wrap("egg", egg.toApplicationJson()));
+            }
+        });
+    }
+
+    private void registerClientRoutes() {
+        route("GET", "/api/client/account", true, (request, matcher) -> {
+            return Reply.ok(PanelState.wrap("user", account.toAccountJson()));
+        });
+
+        route("GET", "/api/client", true, (request, matcher) -> {
+            List<JSONObject> servers = new ArrayList<>();
+            synchronized (state) {
+                for (PanelState.Server server : state.servers.values()) {
+                    servers.add(state.toClientJson(server));
+                }
+            }
+
+            return Reply.ok(page(request, "server", servers));
+        });
+
+        route("GET", "/api/client/servers/(\\w+)", true, (request, matcher) -> {
+            PanelState.Server server = state.findServer(matcher.group(1));
+            if (server == null) {
+                return Reply.notFound();
+            }
+
+            JSONObject body = PanelState.wrap("server", state.toClientJson(server))
+                .put("meta", new JSONObject()
+                    .put("is_server_owner", true)
+                    .put("user_permissions", new JSONArray().put("*")));
+
+            return Reply.ok(body);
+        });
+
+        route("GET", "/api/client/servers/(\\w+)/resources", true, (request, matcher) -> {
+            PanelState.Server server = state.findServer(matcher.group(1));
+            if (server == null) {
+                return Reply.notFound();
+            }
+
+            return Reply.ok(PanelState.wrap("stats", new JSONObject()
+                .put("current_state", server.state)
+                .put("is_suspended", false)
+                .put("resources", server.toResourcesJson())));
+        });
+
+        route("POST", "/api/client/servers/(\\w+)/power", true, (request, matcher) -> {
+            PanelState.Server server = state.findServer(matcher.group(1));
+            if (server == null) {
+                return Reply.notFound();
+            }
+
+            if (server.installing) {
+                return new Reply(409, error("ConflictHttpException", 409, "This server has not yet completed its installation process."));
+            }
+
+            power(server, request.body().getString("signal"));
+            socket.broadcastStatus(server);
+
+            return Reply.noContent();
+        });
+
+        route("POST", "/api/client/servers/(\\w+)/settings/rename", true, (request, matcher) -> {
+            PanelState.Server server = state.findServer(matcher.group(1));
+            if (server == null) {
+                return Reply.notFound();
+            }
+
+            synchronized (state) {
+                server.name = request.body().getString("name");
+                server.touch();
+            }
+
+            return Reply.noContent();
+        });
+
+        route("GET", "/api/client/servers/(\\w+)/websocket", true, (request, matcher) -> {
+            PanelState.Server server = state.findServer(matcher.group(1));
+            if (server == null) {
+                return Reply.notFound();
+            }
+
+            return Reply.ok(new JSONObject()
+                .put("data", new JSONObject()
+                    .put("token", socket.issueToken(server))
+                    .put("socket", "ws://127.0.0.1:" + socket.getPort() + "/api/servers/" + server.uuid + "/ws")));
+        });
+
+        route("GET", "/api/client/servers/(\\w+)/users", true, (request, matcher) -> {
+            PanelState.Server server = state.findServer(matcher.group(1));
+            if (server == null) {
+                return Reply.notFound();
+            }
+
+            List<JSONObject> subusers = new ArrayList<>();
+            synchronized (state) {
+                server.subusers.forEach((userId, permissions) -> {
+                    PanelState.User user = state.users.get(userId);
+                    if (user != null) {
+                        subusers.add(user.toSubuserJson(permissions));
+                    }
+                });
+            }
+
+            return Reply.ok(PanelState.list(PanelState.toArray("server_subuser", subusers)));
+        });
+
+        route("GET", "/api/client/servers/(\\w+)/users/([\\w-]+)", true, (request, matcher) -> {
+            PanelState.Server server = state.findServer(matcher.group(1));
+            PanelState.User user = state.findUser(matcher.group(2));
+
+            synchronized (state) {
+                if (server == null || user == null || !server.subusers.containsKey(user.id)) {
+                    return Reply.notFound();
+                }
+
+                return Reply.ok(PanelState.wrap("server_subuser", user.toSubuserJson(server.subusers.get(user.id))));
+            }
+        });
+
+        route("POST", "/api/client/servers/(\\w+)/users", true, (request, matcher) -> {
+            PanelState.Server server = state.findServer(matcher.group(1));
+            if (server == null) {
+                return Reply.notFound();
+            }
+
+            JSONObject body = request.body();
+            synchronized (state) {
+                String email = body.getString("email");
+
+                PanelState.User user = state.findUser(email);
+                if (user == null) {
+                    user = state.addUser(email.split("@")[0], email, email.split("@")[0], false);
+                }
+
+                List<String> permissions = permissions(body.optJSONArray("permissions"));
+                server.subusers.put(user.id, permissions);
+
+                return Reply.ok(PanelState.wrap("server_subuser", user.toSubuserJson(permissions)));
+            }
+        });
+
+        route("POST", "/api/client/servers/(\\w+)/users/([\\w-]+)", true, (request, matcher) -> {
+            PanelState.Server server = state.findServer(matcher.group(1));
+            PanelState.User user = state.findUser(matcher.group(2));
+
+            JSONObject body = request.body();
+            synchronized (state) {
+                if (server == null || user == null || !server.subusers.containsKey(user.id)) {
+                    return Reply.notFound();
+                }
+
+                List<String> permissions = permissions(body.optJSONArray("permissions"));
+                server.subusers.put(user.id, permissions);
+
+                return Reply.ok(PanelState.wrap("server_subuser", user.toSubuserJson(permissions)));
+            }
+        });
+
+        route("DELETE", "/api/client/servers/(\\w+)/users/([\\w-]+)", true, (request, matcher) -> {
+            PanelState.Server server = state.findServer(matcher.group(1));
+            PanelState.User user = state.findUser(matcher.group(2));
+
+            synchronized (state) {
+                if (server == null || user == null || server.subusers.remove(user.id) == null) {
+                    return Reply.notFound();
+                }
+            }
+
+            return Reply.noContent();
+        });
+
+        route("POST", "/api/client/servers/(\\w+)/schedules", true, (request, matcher) -> {
+            PanelState.Server server = state.findServer(matcher.group(1));
+            if (server == null) {
+                return Reply.notFound();
+            }
+
+            JSONObject body = request.body();
+            int id = state.nextId();
+            synchronized (state) {
+                server.schedules.add(id);
+            }
+
+            return Reply.ok(PanelState.wrap("server_schedule", new JSONObject()
+                .put("id", id)
+                .put("name", body.optString("name"))
+                .put("cron", new JSONObject()
+                    .put("day_of_week", body.optString("day_of_week", "*"))
+                    .put("day_of_month", body.optString("day_of_month", "*"))
+                    .put("month", body.optString("month", "*"))
+                    .put("hour", body.optString("hour", "*"))
+                    .put("minute", body.optString("minute", "*")))
+                .put("is_active", body.optBoolean("is_active", true))
+                .put("is_processing", false)
+                .put("only_when_online", body.optBoolean("only_when_online", false))
+                .put("last_run_at", JSONObject.NULL)
+                .put("next_run_at", PanelState.now())
+                .put("created_at", PanelState.now())
+                .put("updated_at", PanelState.now())
+                .put("relationships", new JSONObject()
+                    .put("tasks", PanelState.list(new JSONArray())))));
+        });
+
+        route("POST", "/api/client/servers/(\\w+)/schedules/(\\d+)/tasks", true, (request, matcher) -> {
+            JSONObject body = request.body();
+
+            return Reply.ok(PanelState.wrap("schedule_task", new JSONObject()
+                .put("id", state.nextId())
+                .put("sequence_id", 1)
+                .put("action", body.optString("action"))
+                .put("payload", body.optString("payload", ""))
+                .put("time_offset", body.optInt("time_offset"))
+                .put("is_queued", false)
+                .put("continue_on_failure", body.optBoolean("continue_on_failure"))
+                .put("created_at", PanelState.now())
+                .put("updated_at", PanelState.now())));
+        });
+    }
+
+    private void route(@NotNull String method, @NotNull String path, boolean client, @NotNull Handler handler) {
+        routes.add(new Route(method, path, Pattern.compile(path), client, handler));
+    }
+
+    private void handle(@NotNull HttpExchange exchange) throws IOException {
+        requests.increment();
+
+        try (exchange) {
+            delay();
+
+            String method = exchange.getRequestMethod(), path = exchange.getRequestURI().getPath();
+            if (path.length() > 1 && path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+
+            Route route = null;
+            Matcher matcher = null;
+            for (Route candidate : routes) {
+                Matcher target = candidate.pattern.matcher(path);
+                if (candidate.method.equals(method) && target.matches()) {
+                    route = candidate;
+                    matcher = target;
+                    break;
+                }
+            }
+
+            if (route == null) {
+                reply(exchange, Reply.notFound());
+                return;
+            }
+
+            requestsByRoute.computeIfAbsent(route.method + " " + route.path, key -> new LongAdder())
+                .increment();
+
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (!("Bearer " + (route.client ? CLIENT_KEY : APPLICATION_KEY)).equals(authorization)) {
+                reply(exchange, new Reply(403, error("AccessDeniedHttpException", 403, "This action is unauthorized.")));
+                return;
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < behavior.getTooManyRequestsRate()) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                reply(exchange, new Reply(429, error("TooManyRequestsHttpException", 429, "Too Many Attempts.")));
+                return;
+            }
+
+            if (random.nextDouble() < behavior.getErrorRate()) {
+                reply(exchange, new Reply(500, error("HttpException", 500, "An unexpected error was encountered while processing this request.")));
+                return;
+            }
+
+            reply(exchange, route.handler.handle(new Request(exchange), matcher));
+        } catch (@NotNull RuntimeException e) {
+            reply(exchange, new Reply(500, error(e.getClass().getSimpleName(), 500, String.valueOf(e.getMessage()))));
+        }
+    }
+
+    private void delay() {
+        long latency = behavior.getLatency().toMillis(), jitter = behavior.getJitter().toMillis();
+        long delay = latency + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0);
+        if (delay <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(delay);
+        } catch (@NotNull InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Counts a request against the current minute, starting a new one once it's over.
+     *
+     * @return The requests counted in the current minute, including this one.
+     */
+    private synchronized int countRequest() {
+        long now = System.nanoTime();
+        if (now - windowStart >= TimeUnit.MINUTES.toNanos(1)) {
+            windowStart = now;
+            windowRequests = 0;
+        }
+
+        return ++windowRequests;
+    }
+
+    private void reply(@NotNull HttpExchange exchange, @NotNull Reply reply) throws IOException {
+        int limit = behavior.getRateLimit();
+        int left = Math.max(0, limit - countRequest());
+
+        exchange.getResponseHeaders().add("X-RateLimit-Limit", String.valueOf(limit));
+        exchange.getResponseHeaders().add("X-RateLimit-Remaining", String.valueOf(left));
+
+        if (reply.body == null) {
+            exchange.sendResponseHeaders(reply.status, -1);
+            return;
+        }
+
+        byte[] body = reply.body.toString().getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(reply.status, body.length);
+
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static @NotNull JSONObject page(@NotNull Request request, @NotNull String object, @NotNull List<JSONObject> entries) {
+        int perPage = Math.max(1, request.intParameter("per_page", DEFAULT_PAGE_SIZE));
+        int current = Math.max(1, request.intParameter("page", 1));
+
+        int from = Math.min(entries.size(), (current - 1) * perPage), to = Math.min(entries.size(), from + perPage);
+        int totalPages = Math.max(1, (entries.size() + perPage - 1) / perPage);
+
+        return PanelState.list(PanelState.toArray(object, entries.subList(from, to)))
+            .put("meta", new JSONObject()
+                .put("pagination", new JSONObject()
+                    .put("total", entries.size())
+                    .put("count", to - from)
+                    .put("per_page", perPage)
+                    .put("current_page", current)
+                    .put("total_pages", totalPages)
+                    .put("links", new JSONObject())));
+    }
+
+    private static @NotNull List<String> permissions(@Nullable JSONArray array) {
+        List<String> permissions = new ArrayList<>();
+        if (array == null) {
+            return permissions;
+        }
+
+        for (int index = 0; index < array.length(); index++) {
+            if (!array.isNull(index)) {
+                permissions.add(array.getString(index));
+            }
+        }
+
+        return permissions;
+    }
+
+    private static @NotNull JSONObject error(@NotNull String code, int status, @NotNull String detail) {
+        return new JSONObject()
+            .put("errors", new JSONArray().put(new JSONObject()
+                .put("code", code)
+                .put("status", String.valueOf(status))
+                .put("detail", detail)));
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+
+        @NotNull Reply handle(@NotNull Request request, @NotNull Matcher matcher) throws IOException;
+
+    }
+
+    private record Route(String method, String path, Pattern pattern, boolean client, Handler handler) {
+    }
+
+    private record Reply(int status, @Nullable JSONObject body) {
+
+        private static Reply ok(@NotNull JSONObject body) {
+            return new Reply(200, body);
+        }
+
+        private static Reply noContent() {
+            return new Reply(204, null);
+        }
+
+        private static Reply notFound() {
+            return new Reply(404, error("NotFoundHttpException", 404, "The requested resource could not be found on the server."));
+        }
+
+        private static Reply validation(@NotNull String detail) {
+            return new Reply(422, error("ValidationException", 422, detail));
+        }
+
+    }
+
+    private static class Request {
+
+        private final HttpExchange exchange;
+        private final Map<String, String> parameters = new HashMap<>();
+
+        private Request(@NotNull HttpExchange exchange) {
+            this.exchange = exchange;
+
+            String query = exchange.getRequestURI().getRawQuery();
+            if (query == null) {
+                return;
+            }
+
+            for (String pair : query.split("&")) {
+                int equals = pair.indexOf('=');
+                if (equals > 0) {
+                    parameters.put(
+                        URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8)
+                    );
+                }
+            }
+        }
+
+        private @NotNull JSONObject body() throws IOException {
+            byte[] bytes = exchange.getRequestBody().readAllBytes();
+            return bytes.length == 0 ? new JSONObject() : new JSONObject(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        private int intParameter(@NotNull String name, int fallback) {
+            try {
+                return Integer.parseInt(parameters.getOrDefault(name, String.valueOf(fallback)));
+            } catch (@NotNull NumberFormatException e) {
+                return fallback;
+            }
+        }
+
+        private boolean includes(@NotNull String relationship) {
+            String include = parameters.get("include");
+            return include != null && List.of(include.split(",")).contains(relationship);
+        }
+
+        /**
+         * @return If the value passes the {@code filter[field]} of the request, when there's one.
+         */
+        private boolean matches(@NotNull String field, @NotNull String value) {
+            String filter = parameters.get("filter[" + field + "]");
+            if (filter == null) {
+                return true;
+            }
+
+            return value.toLowerCase().contains(filter.toLowerCase());
+        }
+
+    }
+
+}
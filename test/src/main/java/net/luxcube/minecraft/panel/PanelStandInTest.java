@@ -0,0 +1,115 @@
+package net.luxcube.minecraft.panel;
+
+import org.jetbrains.annotations.NotNull;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the faults the {@link PanelStandIn} injects, since the other tests rely on them.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class PanelStandInTest {
+
+    static final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    public void answersAfterLatency() throws Exception {
+        PanelBehavior behavior = PanelBehavior.builder()
+            .latency(Duration.ofMillis(150))
+            .jitter(Duration.ofMillis(50))
+            .build();
+
+        try (PanelStandIn panel = PanelStandIn.start(behavior)) {
+            for (int i = 0; i < 3; i++) {
+                long start = System.nanoTime();
+                HttpResponse<String> response = get(panel);
+                long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+                assertEquals(200, response.statusCode());
+                assertTrue(elapsed >= 150, "Answered in " + elapsed + " ms, before the latency");
+            }
+        }
+    }
+
+    @Test
+    public void answersWithErrors() throws Exception {
+        PanelBehavior behavior = PanelBehavior.builder()
+            .errorRate(1)
+            .build();
+
+        try (PanelStandIn panel = PanelStandIn.start(behavior)) {
+            HttpResponse<String> response = get(panel);
+
+            assertEquals(500, response.statusCode());
+            assertEquals("500", status(response));
+            assertEquals(1, panel.getRequests());
+        }
+    }
+
+    @Test
+    public void answersWithTooManyRequests() throws Exception {
+        PanelBehavior behavior = PanelBehavior.builder()
+            .tooManyRequestsRate(1)
+            .build();
+
+        try (PanelStandIn panel = PanelStandIn.start(behavior)) {
+            HttpResponse<String> response = get(panel);
+
+            assertEquals(429, response.statusCode());
+            assertEquals("429", status(response));
+            assertEquals("1", response.headers().firstValue("Retry-After").orElse(null));
+        }
+    }
+
+    @Test
+    public void announcesRateLimit() throws Exception {
+        PanelBehavior behavior = PanelBehavior.builder()
+            .rateLimit(5)
+            .build();
+
+        try (PanelStandIn panel = PanelStandIn.start(behavior)) {
+            for (int expected = 4; expected >= 0; expected--) {
+                HttpResponse<String> response = get(panel);
+
+                assertEquals("5", response.headers().firstValue("X-RateLimit-Limit").orElse(null));
+                assertEquals(String.valueOf(expected), response.headers().firstValue("X-RateLimit-Remaining").orElse(null));
+            }
+
+            // The window only starts over once the minute is over
+            for (int i = 0; i < 3; i++) {
+                HttpResponse<String> response = get(panel);
+                assertEquals("0", response.headers().firstValue("X-RateLimit-Remaining").orElse(null));
+            }
+        }
+    }
+
+    private static HttpResponse<String> get(@NotNull PanelStandIn panel) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(panel.getURL() + "api/application/users"))
+            .header("Authorization", "Bearer " + PanelStandIn.APPLICATION_KEY)
+            .header("Accept", "application/json")
+            .GET()
+            .build();
+
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String status(@NotNull HttpResponse<String> response) {
+        return new JSONObject(response.body())
+            .getJSONArray("errors")
+            .getJSONObject(0)
+            .getString("status");
+    }
+
+}
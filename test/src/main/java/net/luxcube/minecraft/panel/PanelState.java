@@ -0,0 +1,627 @@
+package net.luxcube.minecraft.panel;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The in-memory content of the {@link PanelStandIn}: its users, nodes, allocations, eggs and servers,
+ * rendered in the shape the Pterodactyl API answers them.
+ * Every access goes through the instance lock, which is plenty for a test panel.
+ *
+ * @author Luiz O. F. Corrêa
+ * @since 17/10/2026
+ **/
+public class PanelState {
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    final Map<Integer, User> users = new LinkedHashMap<>();
+    final Map<Integer, Location> locations = new LinkedHashMap<>();
+    final Map<Integer, Node> nodes = new LinkedHashMap<>();
+    final Map<Integer, Allocation> allocations = new LinkedHashMap<>();
+    final Map<Integer, Nest> nests = new LinkedHashMap<>();
+    final Map<Integer, Egg> eggs = new LinkedHashMap<>();
+    final Map<Integer, Server> servers = new LinkedHashMap<>();
+
+    int nextId() {
+        return sequence.incrementAndGet();
+    }
+
+    public synchronized @NotNull User addUser(@NotNull String username, @NotNull String email, @NotNull String firstName, boolean admin) {
+        User user = new User(nextId(), UUID.randomUUID(), username, email, firstName, "'s Account", admin);
+        users.put(user.id, user);
+
+        return user;
+    }
+
+    public synchronized @NotNull Location addLocation(@NotNull String name) {
+        Location location = new Location(nextId(), name);
+        locations.put(location.id, location);
+
+        return location;
+    }
+
+    /**
+     * Adds a node with the given amount of allocations, starting at port 25565.
+     */
+    public synchronized @NotNull Node addNode(@NotNull String name, @NotNull Location location, int memory, int ports) {
+        Node node = new Node(nextId(), UUID.randomUUID(), name, location.id, memory);
+        nodes.put(node.id, node);
+
+        for (int port = 25565; port < 25565 + ports; port++) {
+            Allocation allocation = new Allocation(nextId(), node.id, "10.0.0." + node.id, port);
+            allocations.put(allocation.id, allocation);
+        }
+
+        return node;
+    }
+
+    public synchronized @NotNull Egg addEgg(@NotNull String nestName, @NotNull String name) {
+        Nest nest = nests.values()
+            .stream()
+            .filter(target -> target.name.equals(nestName))
+            .findAny()
+            .orElseGet(() -> {
+                Nest created = new Nest(nextId(), nestName);
+                nests.put(created.id, created);
+
+                return created;
+            });
+
+        Egg egg = new Egg(nextId(), nest.id, name);
+        eggs.put(egg.id, egg);
+
+        return egg;
+    }
+
+    /**
+     * Adds an installed server on the first free allocation of the node.
+     */
+    public synchronized @NotNull Server addServer(@NotNull String name, @NotNull User owner, @NotNull Node node, @NotNull Egg egg) {
+        Allocation allocation = freeAllocation(node.id);
+        if (allocation == null) {
+            throw new IllegalStateException("Node " + node.name + " has no free allocations");
+        }
+
+        Server server = new Server(nextId(), UUID.randomUUID(), name, owner.id, node.id, allocation.id, egg.id);
+        allocation.serverId = server.id;
+        servers.put(server.id, server);
+
+        return server;
+    }
+
+    synchronized @Nullable Allocation freeAllocation(int nodeId) {
+        for (Allocation allocation : allocations.values()) {
+            if (allocation.nodeId == nodeId && allocation.serverId == null) {
+                return allocation;
+            }
+        }
+
+        return null;
+    }
+
+    synchronized @Nullable Server findServer(@NotNull String identifier) {
+        for (Server server : servers.values()) {
+            if (server.getIdentifier().equals(identifier) || server.uuid.toString().equals(identifier)) {
+                return server;
+            }
+        }
+
+        return null;
+    }
+
+    synchronized @Nullable User findUser(@NotNull String key) {
+        for (User user : users.values()) {
+            if (user.uuid.toString().equals(key) || user.email.equalsIgnoreCase(key)) {
+                return user;
+            }
+        }
+
+        return null;
+    }
+
+    synchronized void deleteServer(@NotNull Server server) {
+        servers.remove(server.id);
+
+        for (Allocation allocation : allocations.values()) {
+            if (Integer.valueOf(server.id).equals(allocation.serverId)) {
+                allocation.serverId = null;
+            }
+        }
+    }
+
+    synchronized @NotNull JSONObject toApplicationJson(@NotNull Node node) {
+        long allocated = servers.values()
+            .stream()
+            .filter(server -> server.nodeId == node.id)
+            .mapToLong(server -> server.memory)
+            .sum();
+
+        return new JSONObject()
+            .put("id", node.id)
+            .put("uuid", node.uuid.toString())
+            .put("public", true)
+            .put("name", node.name)
+            .put("description", "")
+            .put("location_id", node.locationId)
+            .put("fqdn", "node-" + node.id + ".panel.local")
+            .put("scheme", "http")
+            .put("behind_proxy", false)
+            .put("maintenance_mode", node.maintenance)
+            .put("memory", node.memory)
+            .put("memory_overallocate", allocated)
+            .put("disk", 102400)
+            .put("disk_overallocate", 0)
+            .put("upload_size", 100)
+            .put("daemon_listen", 8080)
+            .put("daemon_sftp", 2022)
+            .put("daemon_base", "/var/lib/pterodactyl/volumes")
+            .put("created_at", node.createdAt)
+            .put("updated_at", node.updatedAt)
+            .put("allocated_resources", new JSONObject()
+                .put("memory", allocated)
+                .put("disk", 0));
+    }
+
+    synchronized @NotNull JSONObject toClientJson(@NotNull Server server) {
+        Node node = nodes.get(server.nodeId);
+        Egg egg = eggs.get(server.eggId);
+
+        JSONArray clientAllocations = new JSONArray();
+        for (Allocation allocation : allocations.values()) {
+            if (Integer.valueOf(server.id).equals(allocation.serverId)) {
+                clientAllocations.put(wrap("allocation", new JSONObject()
+                    .put("id", allocation.id)
+                    .put("ip", allocation.ip)
+                    .put("ip_alias", JSONObject.NULL)
+                    .put("port", allocation.port)
+                    .put("notes", JSONObject.NULL)
+                    .put("is_default", allocation.id == server.allocationId)));
+            }
+        }
+
+        JSONArray subusers = new JSONArray();
+        server.subusers.forEach((userId, permissions) -> {
+            User user = users.get(userId);
+            if (user != null) {
+                subusers.put(wrap("server_subuser", user.toSubuserJson(permissions)));
+            }
+        });
+
+        return new JSONObject()
+            .put("server_owner", true)
+            .put("identifier", server.getIdentifier())
+            .put("internal_id", server.id)
+            .put("uuid", server.uuid.toString())
+            .put("name", server.name)
+            .put("node", node == null ? "" : node.name)
+            .put("is_node_under_maintenance", node != null && node.maintenance)
+            .put("sftp_details", new JSONObject()
+                .put("ip", "sftp.panel.local")
+                .put("port", 2022))
+            .put("description", server.description)
+            .put("limits", server.toLimitsJson())
+            .put("invocation", server.startup)
+            .put("docker_image", server.image)
+            .put("egg_features", new JSONArray())
+            .put("feature_limits", server.toFeatureLimitsJson())
+            .put("status", server.installing ? "installing" : JSONObject.NULL)
+            .put("is_suspended", false)
+            .put("is_installing", server.installing)
+            .put("is_transferring", false)
+            .put("relationships", new JSONObject()
+                .put("allocations", list(clientAllocations))
+                .put("variables", list(new JSONArray()))
+                .put("egg", wrap("egg", new JSONObject()
+                    .put("uuid", egg == null ? UUID.randomUUID().toString() : egg.uuid.toString())
+                    .put("name", egg == null ? "" : egg.name)))
+                .put("subusers", list(subusers)));
+    }
+
+    synchronized @NotNull JSONObject toApplicationJson(@NotNull User user, boolean includeServers) {
+        JSONObject attributes = user.toApplicationJson();
+        if (includeServers) {
+            JSONArray owned = new JSONArray();
+            for (Server server : servers.values()) {
+                if (server.ownerId == user.id) {
+                    owned.put(wrap("server", server.toApplicationJson()));
+                }
+            }
+
+            attributes.put("relationships", new JSONObject()
+                .put("servers", list(owned)));
+        }
+
+        return attributes;
+    }
+
+    synchronized @NotNull JSONObject toApplicationJson(@NotNull Nest nest, boolean includeEggs) {
+        JSONObject attributes = nest.toApplicationJson();
+        if (includeEggs) {
+            JSONArray nestEggs = new JSONArray();
+            for (Egg egg : eggs.values()) {
+                if (egg.nestId == nest.id) {
+                    nestEggs.put(wrap("egg", egg.toApplicationJson()));
+                }
+            }
+
+            attributes.put("relationships", new JSONObject()
+                .put("eggs", list(nestEggs)));
+        }
+
+        return attributes;
+    }
+
+    static @NotNull JSONObject wrap(@NotNull String object, @NotNull JSONObject attributes) {
+        return new JSONObject()
+            .put("object", object)
+            .put("attributes", attributes);
+    }
+
+    static @NotNull JSONObject list(@NotNull JSONArray data) {
+        return new JSONObject()
+            .put("object", "list")
+            .put("data", data);
+    }
+
+    static @NotNull JSONArray toArray(@NotNull String object, @NotNull Collection<JSONObject> attributes) {
+        JSONArray array = new JSONArray();
+        attributes.forEach(target -> array.put(wrap(object, target)));
+
+        return array;
+    }
+
+    static @NotNull String now() {
+        return OffsetDateTime.now(ZoneOffset.UTC)
+            .truncatedTo(ChronoUnit.SECONDS)
+            .toString();
+    }
+
+    public static class User {
+
+        final int id;
+        final UUID uuid;
+        final boolean admin;
+        final String createdAt = now();
+
+        String username, email, firstName, lastName, password;
+        String updatedAt = createdAt;
+
+        User(int id, @NotNull UUID uuid, @NotNull String username, @NotNull String email,
+             @NotNull String firstName, @NotNull String lastName, boolean admin) {
+            this.id = id;
+            this.uuid = uuid;
+            this.username = username;
+            this.email = email;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.admin = admin;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public @NotNull String getUsername() {
+            return username;
+        }
+
+        @NotNull JSONObject toApplicationJson() {
+            return new JSONObject()
+                .put("id", id)
+                .put("external_id", JSONObject.NULL)
+                .put("uuid", uuid.toString())
+                .put("username", username)
+                .put("email", email)
+                .put("first_name", firstName)
+                .put("last_name", lastName)
+                .put("language", "en")
+                .put("root_admin", admin)
+                .put("2fa", false)
+                .put("created_at", createdAt)
+                .put("updated_at", updatedAt);
+        }
+
+        @NotNull JSONObject toAccountJson() {
+            return new JSONObject()
+                .put("id", id)
+                .put("admin", admin)
+                .put("username", username)
+                .put("email", email)
+                .put("first_name", firstName)
+                .put("last_name", lastName)
+                .put("language", "en");
+        }
+
+        @NotNull JSONObject toSubuserJson(@NotNull List<String> permissions) {
+            return new JSONObject()
+                .put("uuid", uuid.toString())
+                .put("username", username)
+                .put("email", email)
+                .put("image", "https://gravatar.com/avatar/" + id)
+                .put("2fa_enabled", false)
+                .put("created_at", createdAt)
+                .put("permissions", new JSONArray(permissions));
+        }
+
+    }
+
+    public static class Location {
+
+        final int id;
+        final String name;
+        final String createdAt = now();
+
+        Location(int id, @NotNull String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @NotNull JSONObject toApplicationJson() {
+            return new JSONObject()
+                .put("id", id)
+                .put("short", name)
+                .put("long", name)
+                .put("created_at", createdAt)
+                .put("updated_at", createdAt);
+        }
+
+    }
+
+    public static class Node {
+
+        final int id;
+        final UUID uuid;
+        final String name;
+        final int locationId;
+        final long memory;
+        final String createdAt = now();
+
+        boolean maintenance;
+        String updatedAt = createdAt;
+
+        Node(int id, @NotNull UUID uuid, @NotNull String name, int locationId, long memory) {
+            this.id = id;
+            this.uuid = uuid;
+            this.name = name;
+            this.locationId = locationId;
+            this.memory = memory;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+    }
+
+    public static class Allocation {
+
+        final int id;
+        final int nodeId;
+        final String ip;
+        final int port;
+
+        Integer serverId;
+
+        Allocation(int id, int nodeId, @NotNull String ip, int port) {
+            this.id = id;
+            this.nodeId = nodeId;
+            this.ip = ip;
+            this.port = port;
+        }
+
+        @NotNull JSONObject toApplicationJson() {
+            return new JSONObject()
+                .put("id", id)
+                .put("ip", ip)
+                .put("alias", JSONObject.NULL)
+                .put("port", port)
+                .put("notes", JSONObject.NULL)
+                .put("assigned", serverId != null);
+        }
+
+    }
+
+    public static class Nest {
+
+        final int id;
+        final UUID uuid = UUID.randomUUID();
+        final String name;
+        final String createdAt = now();
+
+        Nest(int id, @NotNull String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @NotNull JSONObject toApplicationJson() {
+            return new JSONObject()
+                .put("id", id)
+                .put("uuid", uuid.toString())
+                .put("author", "support@pterodactyl.io")
+                .put("name", name)
+                .put("description", name)
+                .put("created_at", createdAt)
+                .put("updated_at", createdAt);
+        }
+
+    }
+
+    public static class Egg {
+
+        final int id;
+        final int nestId;
+        final UUID uuid = UUID.randomUUID();
+        final String name;
+        final String createdAt = now();
+
+        Egg(int id, int nestId, @NotNull String name) {
+            this.id = id;
+            this.nestId = nestId;
+            this.name = name;
+        }
+
+        @NotNull JSONObject toApplicationJson() {
+            return new JSONObject()
+                .put("id", id)
+                .put("uuid", uuid.toString())
+                .put("name", name)
+                .put("nest", nestId)
+                .put("author", "support@pterodactyl.io")
+                .put("description", name)
+                .put("docker_image", "ghcr.io/pterodactyl/yolks:java_17")
+                .put("docker_images", new JSONObject()
+                    .put("Java 17", "ghcr.io/pterodactyl/yolks:java_17"))
+                .put("config", new JSONObject()
+                    .put("files", new JSONObject())
+                    .put("startup", new JSONObject().put("done", ")! For help, type "))
+                    .put("stop", "stop")
+                    .put("logs", new JSONObject())
+                    .put("file_denylist", new JSONArray())
+                    .put("extends", JSONObject.NULL))
+                .put("startup", "java -jar {{SERVER_JARFILE}}")
+                .put("script", new JSONObject()
+                    .put("privileged", true)
+                    .put("install", "")
+                    .put("entry", "ash")
+                    .put("container", "alpine:3.4")
+                    .put("extends", JSONObject.NULL))
+                .put("created_at", createdAt)
+                .put("updated_at", createdAt);
+        }
+
+    }
+
+    public static class Server {
+
+        final int id;
+        final UUID uuid;
+        final String createdAt = now();
+
+        final Map<Integer, List<String>> subusers = new LinkedHashMap<>();
+        final List<Integer> schedules = new ArrayList<>();
+
+        String name, description = "", image = "ghcr.io/pterodactyl/yolks:java_17", startup = "java -jar server.jar";
+        String updatedAt = createdAt;
+
+        int ownerId, nodeId, allocationId, eggId;
+        long memory = 1024, disk = 1024, cpu = 100;
+
+        volatile boolean installing;
+        volatile String state = "offline";
+        volatile long startedAt;
+
+        Server(int id, @NotNull UUID uuid, @NotNull String name, int ownerId, int nodeId, int allocationId, int eggId) {
+            this.id = id;
+            this.uuid = uuid;
+            this.name = name;
+            this.ownerId = ownerId;
+            this.nodeId = nodeId;
+            this.allocationId = allocationId;
+            this.eggId = eggId;
+        }
+
+        public @NotNull String getIdentifier() {
+            return uuid.toString().substring(0, 8);
+        }
+
+        public @NotNull String getName() {
+            return name;
+        }
+
+        public @NotNull String getState() {
+            return state;
+        }
+
+        void touch() {
+            updatedAt = now();
+        }
+
+        @NotNull JSONObject toLimitsJson() {
+            return new JSONObject()
+                .put("memory", memory)
+                .put("swap", 0)
+                .put("disk", disk)
+                .put("io", 500)
+                .put("cpu", cpu)
+                .put("threads", JSONObject.NULL)
+                .put("oom_disabled", true);
+        }
+
+        @NotNull JSONObject toFeatureLimitsJson() {
+            return new JSONObject()
+                .put("databases", 1)
+                .put("allocations", 3)
+                .put("backups", 1);
+        }
+
+        @NotNull JSONObject toApplicationJson() {
+            return new JSONObject()
+                .put("id", id)
+                .put("external_id", JSONObject.NULL)
+                .put("uuid", uuid.toString())
+                .put("identifier", getIdentifier())
+                .put("name", name)
+                .put("description", description)
+                .put("status", installing ? "installing" : JSONObject.NULL)
+                .put("suspended", false)
+                .put("limits", toLimitsJson())
+                .put("feature_limits", toFeatureLimitsJson())
+                .put("user", ownerId)
+                .put("node", nodeId)
+                .put("allocation", allocationId)
+                .put("nest", 1)
+                .put("egg", eggId)
+                .put("container", new JSONObject()
+                    .put("startup_command", startup)
+                    .put("image", image)
+                    .put("installed", installing ? 0 : 1)
+                    .put("environment", new JSONObject()
+                        .put("SERVER_JARFILE", "server.jar")))
+                .put("updated_at", updatedAt)
+                .put("created_at", createdAt);
+        }
+
+        @NotNull JSONObject toResourcesJson() {
+            boolean running = state.equals("running");
+
+            return new JSONObject()
+                .put("memory_bytes", running ? memory * 1024 * 1024 / 2 : 0)
+                .put("cpu_absolute", running ? 12.5 : 0)
+                .put("disk_bytes", disk * 1024 * 1024 / 4)
+                .put("network_rx_bytes", running ? 4096 : 0)
+                .put("network_tx_bytes", running ? 8192 : 0)
+                .put("uptime", running ? System.currentTimeMillis() - startedAt : 0);
+        }
+
+        @NotNull JSONObject toStatsJson() {
+            JSONObject resources = toResourcesJson();
+
+            return new JSONObject()
+                .put("memory_bytes", resources.getLong("memory_bytes"))
+                .put("memory_limit_bytes", memory * 1024 * 1024)
+                .put("cpu_absolute", resources.getDouble("cpu_absolute"))
+                .put("network", new JSONObject()
+                    .put("rx_bytes", resources.getLong("network_rx_bytes"))
+                    .put("tx_bytes", resources.getLong("network_tx_bytes")))
+                .put("state", state)
+                .put("disk_bytes", resources.getLong("disk_bytes"))
+                .put("uptime", resources.getLong("uptime"));
+        }
+
+    }
+
+}